@@ -6,11 +6,15 @@ import kr.eolmago.domain.entity.report.enums.ReportAction;
 import kr.eolmago.domain.entity.report.enums.ReportStatus;
 import kr.eolmago.domain.entity.user.enums.PenaltyType;
 import kr.eolmago.domain.entity.user.enums.UserStatus;
+import kr.eolmago.dto.api.admin.response.DeadLetterResponse;
+import kr.eolmago.dto.api.admin.response.HighestBidderCheckResponse;
 import kr.eolmago.dto.api.admin.response.PenaltyHistoryResponse;
 import kr.eolmago.dto.api.admin.response.ReportAdminResponse;
 import kr.eolmago.dto.api.admin.response.UserAdminResponse;
 import kr.eolmago.dto.api.common.PageResponse;
+import kr.eolmago.global.stream.DeadLetterStream;
 import kr.eolmago.service.admin.AdminService;
+import kr.eolmago.service.auction.AuctionHighestBidderChecker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +34,7 @@ import java.util.UUID;
 public class AdminApiController {
 
     private final AdminService adminService;
+    private final AuctionHighestBidderChecker auctionHighestBidderChecker;
 
     @Operation(summary = "사용자 목록 조회 (필터링 + 페이지네이션)")
     @GetMapping("/users")
@@ -110,4 +115,24 @@ public class AdminApiController {
         adminService.resolveReport(reportId, action, adminNote);
         return ResponseEntity.ok().build();
     }
+
+    // 재시도 한도를 넘겨 dead-letter로 이동한 스트림 레코드
+    @Operation(summary = "스트림 dead-letter 조회")
+    @GetMapping("/streams/dead-letters")
+    public ResponseEntity<List<DeadLetterResponse>> getDeadLetters(
+            @RequestParam DeadLetterStream stream,
+            @RequestParam(defaultValue = "50") int count
+    ) {
+        List<DeadLetterResponse> response = adminService.getDeadLetters(stream, Math.min(count, 500));
+        return ResponseEntity.ok(response);
+    }
+
+    // 최고 입찰자 비정규화 컬럼 점검, repair=true면 bids 기준으로 복구(백필)
+    @Operation(summary = "경매 최고 입찰자 정합성 점검/복구")
+    @PostMapping("/auctions/highest-bidder/check")
+    public ResponseEntity<HighestBidderCheckResponse> checkHighestBidders(
+            @RequestParam(defaultValue = "false") boolean repair
+    ) {
+        return ResponseEntity.ok(auctionHighestBidderChecker.checkAndRepair(repair));
+    }
 }
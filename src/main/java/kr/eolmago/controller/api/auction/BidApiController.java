@@ -17,6 +17,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auctions")
@@ -30,14 +31,15 @@ public class BidApiController {
     @Operation(summary = "입찰 생성")
     @PostMapping("/{auctionId}/bids")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<BidCreateResponse> createBid (
+    public CompletableFuture<ResponseEntity<BidCreateResponse>> createBid (
             @PathVariable UUID auctionId,
             @Valid @RequestBody BidCreateRequest request,
             @AuthenticationPrincipal CustomUserDetails principal
     ) {
         UUID buyerId = UUID.fromString(principal.getId());
-        BidCreateResponse response = bidService.createBid(auctionId, request, buyerId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        // 처리 결과가 도착할 때까지 서블릿 스레드를 반환하고 비동기로 응답
+        return bidService.createBid(auctionId, request, buyerId)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     @Operation(summary = "입찰자 목록 조회")
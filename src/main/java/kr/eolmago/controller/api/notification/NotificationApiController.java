@@ -81,8 +81,11 @@ public class NotificationApiController {
 	@Operation(summary = "알림 SSE 스트림 연결")
 	@SecurityRequirement(name = "bearerAuth")
 	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public SseEmitter stream(@AuthenticationPrincipal CustomUserDetails me) {
+	public SseEmitter stream(
+		@AuthenticationPrincipal CustomUserDetails me,
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+	) {
 		UUID userId = notificationValidator.validateAndGetUserId(me);
-		return notificationService.connectStream(userId);
+		return notificationService.connectStream(userId, lastEventId);
 	}
 }
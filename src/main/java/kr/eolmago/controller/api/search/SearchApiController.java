@@ -50,6 +50,13 @@ public class SearchApiController {
         return ResponseEntity.ok(results);
     }
 
+    @Operation(summary = "급상승 검색어")
+    @GetMapping("/trending")
+    public ResponseEntity<List<PopularKeywordResponse>> getTrendingKeywords() {
+        List<PopularKeywordResponse> results = searchKeywordService.getTrendingKeywords();
+        return ResponseEntity.ok(results);
+    }
+
     @Operation(summary = "검색어 통계 기록")
     @PostMapping("/record")
     public ResponseEntity<Map<String, String>> recordSearch(
@@ -4,6 +4,7 @@ import kr.eolmago.domain.entity.auction.enums.AuctionEndReason;
 import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
 import kr.eolmago.domain.entity.common.CreatedAtEntity;
 import kr.eolmago.domain.entity.user.User;
+import kr.eolmago.global.util.ChosungUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -13,7 +14,10 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "auctions")
+@Table(name = "auctions", indexes = {
+        @Index(name = "idx_auctions_title_chosung", columnList = "title_chosung"),
+        @Index(name = "idx_auctions_status_end_at", columnList = "status, end_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Auction extends CreatedAtEntity {
@@ -38,6 +42,10 @@ public class Auction extends CreatedAtEntity {
     @Column(nullable = false, length = 100)
     private String title;
 
+    // 초성 검색 키 (ChosungUtils.extractChosung), C collation이라 LIKE 'ㅇㅇㅍ%'가 인덱스 범위 조회
+    @Column(name = "title_chosung", columnDefinition = "varchar(100) COLLATE \"C\"")
+    private String titleChosung;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -57,6 +65,10 @@ public class Auction extends CreatedAtEntity {
     @Column(nullable = false)
     private int bidCount;
 
+    // 현재 최고 입찰자 (bids 최고가 조회 대신 입찰 시 함께 갱신)
+    @Column(name = "highest_bidder_id")
+    private UUID highestBidderId;
+
     @Column(nullable = false)
     private int favoriteCount;
 
@@ -98,6 +110,7 @@ public class Auction extends CreatedAtEntity {
         auction.auctionItem = auctionItem;
         auction.seller = seller;
         auction.title = title;
+        auction.titleChosung = ChosungUtils.extractChosung(title);
         auction.description = description;
         auction.status = status;
         auction.startPrice = startPrice;
@@ -117,6 +130,7 @@ public class Auction extends CreatedAtEntity {
     // 경매 수정
     public void updateDraft(String title, String description, int startPrice, int bidIncrement, int durationHours) {
         this.title = title;
+        this.titleChosung = ChosungUtils.extractChosung(title);
         this.description = description;
         this.startPrice = startPrice;
         this.bidIncrement = bidIncrement;
@@ -133,9 +147,10 @@ public class Auction extends CreatedAtEntity {
     }
 
     // 입찰
-    public void updateBid(int newAmount) {
+    public void updateBid(int newAmount, UUID bidderId) {
         this.currentPrice = newAmount;
         this.bidCount++;
+        this.highestBidderId = bidderId;
     }
 
     // 경매 종료 시간 연장
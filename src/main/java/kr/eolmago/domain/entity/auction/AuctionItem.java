@@ -4,6 +4,7 @@ import io.hypersistence.utils.hibernate.type.json.JsonType;
 import kr.eolmago.domain.entity.auction.enums.ItemCategory;
 import kr.eolmago.domain.entity.auction.enums.ItemCondition;
 import kr.eolmago.domain.entity.common.AuditableEntity;
+import kr.eolmago.global.util.ChosungUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,7 +15,9 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Entity
-@Table(name = "auction_items")
+@Table(name = "auction_items", indexes = {
+        @Index(name = "idx_auction_items_item_name_chosung", columnList = "item_name_chosung")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AuctionItem extends AuditableEntity {
@@ -27,6 +30,10 @@ public class AuctionItem extends AuditableEntity {
     @Column(nullable = false, length = 100)
     private String itemName;
 
+    // 초성 검색 키 (ChosungUtils.extractChosung), C collation이라 LIKE 'ㅇㅇㅍ%'가 인덱스 범위 조회
+    @Column(name = "item_name_chosung", columnDefinition = "varchar(100) COLLATE \"C\"")
+    private String itemNameChosung;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private ItemCategory category;
@@ -49,6 +56,7 @@ public class AuctionItem extends AuditableEntity {
     ) {
         AuctionItem item = new AuctionItem();
         item.itemName = itemName;
+        item.itemNameChosung = ChosungUtils.extractChosung(itemName);
         item.category = category;
         item.condition = condition;
 
@@ -62,6 +70,7 @@ public class AuctionItem extends AuditableEntity {
     // 임시저장 수정
     public void updateDraft(String itemName, ItemCategory category, ItemCondition condition, Map<String, Object> specs) {
         this.itemName = itemName;
+        this.itemNameChosung = ChosungUtils.extractChosung(itemName);
         this.category = category;
         this.condition = condition;
         this.specs = specs;
@@ -0,0 +1,66 @@
+package kr.eolmago.domain.entity.chat;
+
+import kr.eolmago.domain.entity.common.AuditableEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 참여자별 채팅방 목록 프로젝션
+ * - 방 목록을 (user_id, room_type) 인덱스 한 번으로 읽기 위한 비정규화 테이블
+ * - 채팅 컨슈머가 마지막 메시지/안 읽은 수를 갱신, 읽음 처리 시 안 읽은 수 초기화
+ * - 행은 방 생성 시(또는 기동 시 백필) INSERT ... SELECT 로만 생성
+ */
+@Entity
+@Table(
+    name = "chat_inbox",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_chat_inbox_room_user",
+            columnNames = {"chat_room_id", "user_id"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_chat_inbox_user_type", columnList = "user_id, room_type, last_message_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatInbox extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false, updatable = false)
+    private Long chatInboxId;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private ChatRoomType roomType;
+
+    private UUID auctionId;
+
+    private String auctionTitle;
+
+    private String thumbnailUrl;
+
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(columnDefinition = "text")
+    private String lastMessage;
+
+    private OffsetDateTime lastMessageAt;
+
+    @Column(nullable = false)
+    private long unreadCount;
+}
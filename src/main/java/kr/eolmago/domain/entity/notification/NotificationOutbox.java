@@ -0,0 +1,80 @@
+package kr.eolmago.domain.entity.notification;
+
+import kr.eolmago.domain.entity.common.CreatedAtEntity;
+import kr.eolmago.domain.entity.notification.enums.NotificationType;
+import kr.eolmago.domain.entity.notification.enums.RelatedEntityType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 알림 발행 대기열(outbox)
+ * - 입찰/마감 트랜잭션 안에서는 이 행만 기록, 알림 저장/SSE/채팅은 워커가 커밋 후 일괄 처리
+ * - users FK를 두지 않아 입찰 트랜잭션이 사용자 행에 키 잠금을 걸지 않음
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends CreatedAtEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false, updatable = false)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String body;
+
+    @Column(columnDefinition = "text")
+    private String linkUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RelatedEntityType relatedEntityType;
+
+    @Column(columnDefinition = "text")
+    private String relatedEntityId;
+
+    // 단건 처리 실패 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    public void increaseAttempts() {
+        this.attempts++;
+    }
+
+    public static NotificationOutbox create(
+            UUID userId,
+            NotificationType type,
+            String title,
+            String body,
+            String linkUrl,
+            RelatedEntityType relatedEntityType,
+            String relatedEntityId
+    ) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.userId = userId;
+        outbox.type = type;
+        outbox.title = title;
+        outbox.body = body;
+        outbox.linkUrl = linkUrl;
+        outbox.relatedEntityType = relatedEntityType;
+        outbox.relatedEntityId = relatedEntityId;
+        outbox.attempts = 0;
+        return outbox;
+    }
+}
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "search_keywords")
+@Table(name = "search_keywords", indexes = {
+        @Index(name = "idx_search_keywords_last_searched_at", columnList = "last_searched_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SearchKeyword extends CreatedAtEntity {
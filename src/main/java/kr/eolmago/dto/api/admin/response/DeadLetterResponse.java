@@ -0,0 +1,15 @@
+package kr.eolmago.dto.api.admin.response;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record DeadLetterResponse(
+        String id,
+        String sourceStream,
+        String sourceId,
+        long deliveryCount,
+        String deadAt,
+        Map<String, String> payload
+) {}
@@ -0,0 +1,6 @@
+package kr.eolmago.dto.api.admin.response;
+
+public record HighestBidderCheckResponse(
+        long mismatched,
+        long repaired
+) {}
@@ -0,0 +1,15 @@
+package kr.eolmago.dto.api.auction.response;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// /topic/auctions.{id} 실시간 갱신, 가격 변경 없이 종료 시각만 바뀐 경우 가격 필드는 null
+public record AuctionLiveUpdateResponse(
+        UUID auctionId,
+        Integer currentPrice,
+        Integer bidCount,
+        OffsetDateTime endAt,
+        boolean extensionApplied,
+        UUID highestBidderId
+) {
+}
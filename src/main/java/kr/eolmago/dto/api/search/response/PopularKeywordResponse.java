@@ -39,7 +39,7 @@ public record PopularKeywordResponse(
      * Redis 데이터 → DTO 변환
      *
      * @param keyword 검색어
-     * @param score Redis 점수 (searchCount + brandWeight)
+     * @param score Redis 점수 (누적: searchCount + brandWeight, 주간/급상승: 기간 내 검색 횟수)
      * @param rank 순위 (1부터 시작)
      * @return PopularKeywordResponse
      */
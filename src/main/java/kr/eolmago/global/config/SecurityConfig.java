@@ -1,5 +1,6 @@
 package kr.eolmago.global.config;
 
+import jakarta.servlet.DispatcherType;
 import kr.eolmago.global.exception.CustomAccessDeniedHandler;
 import kr.eolmago.global.exception.CustomAuthenticationEntryPoint;
 import kr.eolmago.global.security.filter.JwtAuthenticationFilter;
@@ -60,6 +61,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답 재디스패치(입찰 결과 대기 등)는 최초 요청에서 인가 완료
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증/토큰 발급
                         .requestMatchers("/api/auth/**").permitAll()
 
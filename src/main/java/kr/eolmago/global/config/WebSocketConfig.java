@@ -1,15 +1,26 @@
 package kr.eolmago.global.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	// 느린 클라이언트 보호: 전송 지연/버퍼가 한도를 넘으면 해당 세션만 종료
+	private static final int SEND_TIME_LIMIT_MS = 10_000;
+	private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+	private static final int MESSAGE_SIZE_LIMIT = 64 * 1024;
+
+	private static final int OUTBOUND_CORE_POOL_SIZE = 4;
+	private static final int OUTBOUND_MAX_POOL_SIZE = 16;
+	private static final int OUTBOUND_QUEUE_CAPACITY = 10_000;
+
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
 		registry.addEndpoint("/ws")
@@ -22,5 +33,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		registry.setApplicationDestinationPrefixes("/app");
 		registry.enableSimpleBroker("/topic");
 	}
-}
 
+	// 노드 간 전달은 ClusterTopicRelay, 여기서는 세션별 송신 한도만 설정
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration
+			.setSendTimeLimit(SEND_TIME_LIMIT_MS)
+			.setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT)
+			.setMessageSizeLimit(MESSAGE_SIZE_LIMIT);
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor()
+			.corePoolSize(OUTBOUND_CORE_POOL_SIZE)
+			.maxPoolSize(OUTBOUND_MAX_POOL_SIZE)
+			.queueCapacity(OUTBOUND_QUEUE_CAPACITY);
+	}
+}
@@ -0,0 +1,50 @@
+package kr.eolmago.global.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크기 상한이 있는 로컬 만료 캐시
+ * - 항목마다 만료 시각을 두고 조회 시 만료된 항목은 제거
+ * - 상한을 넘으면 만료 항목부터 정리, 그래도 넘치면 전체 비움
+ */
+final class LocalExpiringCache<K, V> {
+
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<V>(V value, long expiresAtMs) {}
+
+    LocalExpiringCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAtMs() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    void put(K key, V value, long expiresAtMs) {
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(e -> e.expiresAtMs() <= now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry<>(value, expiresAtMs));
+    }
+
+    void remove(K key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
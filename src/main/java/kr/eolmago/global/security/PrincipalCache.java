@@ -0,0 +1,100 @@
+package kr.eolmago.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 인증 사용자(UserDetails) 로컬 캐시
+ * - 요청마다 User/SocialLogin/UserProfile 조회를 반복하지 않도록 userId 기준 짧게 보관
+ * - 상태/역할/프로필 변경 커밋 후 Redis 채널로 모든 노드에 무효화 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "auth:principal:evict";
+    private static final long CACHE_TTL_MS = 30_000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final LocalExpiringCache<UUID, UserDetails> cache = new LocalExpiringCache<>(MAX_ENTRIES);
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = Counter.builder("auth.principal.cache").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("auth.principal.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", cache, LocalExpiringCache::size).register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public UserDetails get(UUID userId, Function<UUID, UserDetails> loader) {
+        UserDetails cached = cache.get(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        UserDetails loaded = loader.apply(userId);
+        cache.put(userId, loaded, System.currentTimeMillis() + CACHE_TTL_MS);
+        return loaded;
+    }
+
+    // 호출 트랜잭션 커밋 후 무효화 (트랜잭션 밖이면 즉시)
+    public void evictAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public void evict(UUID userId) {
+        cache.remove(userId);
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료 후 갱신
+            log.warn("[AUTH_CACHE] evict broadcast failed. userId={}, err={}", userId, e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            cache.remove(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            log.warn("[AUTH_CACHE] evict message ignored. err={}", e.toString());
+        }
+    }
+}
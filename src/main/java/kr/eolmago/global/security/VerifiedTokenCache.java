@@ -0,0 +1,60 @@
+package kr.eolmago.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.eolmago.service.user.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 서명 검증을 통과한 토큰 캐시
+ * - 같은 토큰으로 반복되는 요청은 서명 검증/파싱을 건너뜀
+ * - 토큰 만료 시각과 CACHE_TTL_MS 중 이른 시각까지만 보관, 만료되면 다시 파싱해 만료 예외를 그대로 던짐
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final long CACHE_TTL_MS = 60_000L;
+    private static final int MAX_ENTRIES = 20_000;
+
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
+    private final LocalExpiringCache<String, VerifiedToken> cache = new LocalExpiringCache<>(MAX_ENTRIES);
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    public record VerifiedToken(UUID userId, long expiresAtMs) {}
+
+    @PostConstruct
+    public void registerMetrics() {
+        hitCounter = Counter.builder("auth.token.cache").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("auth.token.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.token.cache.size", cache, LocalExpiringCache::size).register(meterRegistry);
+    }
+
+    // 검증 실패 시 JwtService.parseToken과 같은 예외를 던짐
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = cache.get(token);
+        if (cached != null && cached.expiresAtMs() > System.currentTimeMillis()) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        Claims claims = jwtService.parseToken(token);
+        VerifiedToken verified = new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.getExpiration().getTime()
+        );
+        cache.put(token, verified, Math.min(verified.expiresAtMs(), System.currentTimeMillis() + CACHE_TTL_MS));
+        return verified;
+    }
+}
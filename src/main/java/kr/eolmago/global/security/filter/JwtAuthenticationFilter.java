@@ -8,6 +8,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.eolmago.domain.entity.user.enums.UserStatus;
 import kr.eolmago.global.security.CustomUserDetails;
+import kr.eolmago.global.security.PrincipalCache;
+import kr.eolmago.global.security.VerifiedTokenCache;
 import kr.eolmago.service.user.JwtService;
 import kr.eolmago.service.user.RefreshTokenService;
 import kr.eolmago.service.user.UserService;
@@ -38,6 +40,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserService userService;
     private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache tokenCache;
+    private final PrincipalCache principalCache;
 
     private enum TokenStatus {
         VALID, EXPIRED, INVALID
@@ -114,7 +118,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private TokenStatus checkTokenStatus(String token) {
         try {
-            jwtService.parseToken(token);
+            tokenCache.verify(token);
             return TokenStatus.VALID;
         } catch (ExpiredJwtException e) {
             return TokenStatus.EXPIRED;
@@ -133,7 +137,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return false;
             }
 
-            UUID userId = jwtService.getUserIdFromToken(refreshToken);
+            VerifiedTokenCache.VerifiedToken verified = tokenCache.verify(refreshToken);
+            UUID userId = verified.userId();
             log.info("RefreshToken에서 userId 추출: {}", userId);
 
             if (!refreshTokenService.validate(userId, refreshToken)) {
@@ -141,7 +146,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return false;
             }
 
-            UserDetails userDetails = userService.getUserDetailsById(userId);
+            UserDetails userDetails = principalCache.get(userId, userService::getUserDetailsById);
 
             String role = userDetails.getAuthorities().iterator().next()
                     .getAuthority().replace("ROLE_", "");
@@ -157,7 +162,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // RefreshToken은 만료가 1일 미만으로 남았을 때만 갱신 (동시성 문제 최소화)
             long oneDayMillis = 24 * 60 * 60 * 1000L;
-            long remainingMillis = jwtService.parseToken(refreshToken).getExpiration().getTime() - System.currentTimeMillis();
+            long remainingMillis = verified.expiresAtMs() - System.currentTimeMillis();
 
             if (remainingMillis < oneDayMillis) {
                 String newRefreshToken = jwtService.generateRefreshToken(userId);
@@ -186,8 +191,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private void authenticateUser(String token, HttpServletRequest request, HttpServletResponse response) {
         try {
-            UUID userId = jwtService.getUserIdFromToken(token);
-            UserDetails userDetails = userService.getUserDetailsById(userId);
+            UUID userId = tokenCache.verify(token).userId();
+            UserDetails userDetails = principalCache.get(userId, userService::getUserDetailsById);
 
             // SUSPENDED 유저 체크
             if (userDetails instanceof CustomUserDetails) {
@@ -0,0 +1,17 @@
+package kr.eolmago.global.stream;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재시도 한도를 넘긴 스트림 레코드가 이동하는 dead-letter 스트림
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DeadLetterStream {
+
+    BID("stream:bids:dlq"),
+    CHAT("chat:messages:dlq");
+
+    private final String key;
+}
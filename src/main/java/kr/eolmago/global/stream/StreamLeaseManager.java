@@ -0,0 +1,122 @@
+package kr.eolmago.global.stream;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 파티션된 스트림의 소유권(리스) 관리
+ * - 파티션당 소유 노드는 하나, 소유 노드만 해당 파티션을 소비
+ * - 리스는 TTL 내에 갱신하지 못하면 만료되어 다른 노드가 가져감
+ * - 스트림별 차이(소유 키, 노드 키, TTL)는 생성자로 받음
+ * - 획득/갱신 성공 시각 기준으로 리스 만료 전까지만 처리하도록 로컬 펜싱(isHeld) 제공
+ */
+public class StreamLeaseManager {
+
+    // 내가 소유자일 때만 TTL 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    // 내가 소유자일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodesKey;
+    private final IntFunction<String> ownerKey;
+    private final LongSupplier leaseTtlMs;
+
+    // 파티션별 리스 유효 기한(System.nanoTime 기준, 요청 보내기 직전 시각 + TTL)
+    private final ConcurrentMap<Integer, Long> heldUntilNanos = new ConcurrentHashMap<>();
+
+    public StreamLeaseManager(
+            StringRedisTemplate redisTemplate,
+            String nodesKey,
+            IntFunction<String> ownerKey,
+            LongSupplier leaseTtlMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.nodesKey = nodesKey;
+        this.ownerKey = ownerKey;
+        this.leaseTtlMs = leaseTtlMs;
+    }
+
+    // 생존 신호 기록 후 활성 노드 수 반환
+    public int heartbeat(String nodeId) {
+        long now = System.currentTimeMillis();
+
+        redisTemplate.opsForZSet().add(nodesKey, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(nodesKey, 0, now - leaseTtlMs.getAsLong());
+
+        Long count = redisTemplate.opsForZSet().zCard(nodesKey);
+        return (count == null || count < 1) ? 1 : count.intValue();
+    }
+
+    public void leave(String nodeId) {
+        redisTemplate.opsForZSet().remove(nodesKey, nodeId);
+    }
+
+    public boolean tryAcquire(int partition, String nodeId) {
+        long requestedAt = System.nanoTime();
+        Boolean ok = redisTemplate.opsForValue().setIfAbsent(
+                ownerKey.apply(partition),
+                nodeId,
+                Duration.ofMillis(leaseTtlMs.getAsLong())
+        );
+        return recordHeld(partition, requestedAt, Boolean.TRUE.equals(ok));
+    }
+
+    public boolean renew(int partition, String nodeId) {
+        long requestedAt = System.nanoTime();
+        Long renewed = redisTemplate.execute(
+                RENEW_SCRIPT,
+                List.of(ownerKey.apply(partition)),
+                nodeId,
+                String.valueOf(leaseTtlMs.getAsLong())
+        );
+        return recordHeld(partition, requestedAt, renewed != null && renewed == 1L);
+    }
+
+    public void release(int partition, String nodeId) {
+        heldUntilNanos.remove(partition);
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(ownerKey.apply(partition)), nodeId);
+    }
+
+    /**
+     * 처리 직전 펜싱 검사 (Redis 왕복 없음)
+     * - 마지막 획득/갱신 이후 TTL의 4/5가 지나기 전까지만 소유로 봄, 나머지는 처리 시간/지연 여유
+     * - false면 다른 노드가 이미 가져갔을 수 있으므로 읽은 레코드를 처리하지 않고 PEL에 남김
+     */
+    public boolean isHeld(int partition) {
+        Long heldUntil = heldUntilNanos.get(partition);
+        if (heldUntil == null) return false;
+
+        long marginNanos = TimeUnit.MILLISECONDS.toNanos(leaseTtlMs.getAsLong() / 5);
+        return System.nanoTime() + marginNanos - heldUntil < 0;
+    }
+
+    private boolean recordHeld(int partition, long requestedAtNanos, boolean held) {
+        if (held) {
+            heldUntilNanos.put(partition, requestedAtNanos + TimeUnit.MILLISECONDS.toNanos(leaseTtlMs.getAsLong()));
+        } else {
+            heldUntilNanos.remove(partition);
+        }
+        return held;
+    }
+}
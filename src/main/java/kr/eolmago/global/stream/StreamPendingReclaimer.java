@@ -0,0 +1,134 @@
+package kr.eolmago.global.stream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컨슈머 그룹 PEL(Pending Entries List) 회수
+ * - ACK 전에 죽은 컨슈머가 남긴 레코드를 유휴 시간 이후 현재 컨슈머로 XCLAIM
+ * - 전달 횟수 한도를 넘긴 레코드는 dead-letter 스트림으로 옮기고 ACK
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamPendingReclaimer {
+
+    public static final String FIELD_SOURCE_STREAM = "_sourceStream";
+    public static final String FIELD_SOURCE_ID = "_sourceId";
+    public static final String FIELD_DELIVERY_COUNT = "_deliveryCount";
+    public static final String FIELD_DEAD_AT = "_deadAt";
+
+    private static final long DEAD_LETTER_MAX_LEN = 10_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 재처리할 레코드 반환(호출 측에서 처리 후 ACK)
+    public List<MapRecord<String, Object, Object>> reclaim(
+            String streamKey,
+            String group,
+            String consumerName,
+            Duration minIdle,
+            long maxDeliveryCount,
+            int count,
+            DeadLetterStream deadLetter
+    ) {
+        PendingMessages pending = redisTemplate.opsForStream().pending(streamKey, group, Range.unbounded(), count);
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+
+        List<RecordId> toClaim = new ArrayList<>();
+        List<PendingMessage> toDeadLetter = new ArrayList<>();
+
+        for (PendingMessage pm : pending) {
+            if (pm.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (pm.getTotalDeliveryCount() >= maxDeliveryCount) {
+                toDeadLetter.add(pm);
+            } else {
+                toClaim.add(pm.getId());
+            }
+        }
+
+        for (PendingMessage pm : toDeadLetter) {
+            moveToDeadLetter(streamKey, group, pm, deadLetter);
+        }
+
+        if (toClaim.isEmpty()) {
+            return List.of();
+        }
+
+        // minIdle 조건을 다시 걸어 그 사이 다른 컨슈머가 가져간 레코드는 제외
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                streamKey,
+                group,
+                consumerName,
+                XClaimOptions.minIdle(minIdle).ids(toClaim.toArray(RecordId[]::new))
+        );
+
+        if (claimed == null || claimed.isEmpty()) {
+            return List.of();
+        }
+
+        meterRegistry.counter("stream.pending.reclaimed", "stream", streamKey).increment(claimed.size());
+        log.info("[STREAM_RECLAIM] claimed. stream={}, group={}, consumer={}, count={}",
+                streamKey, group, consumerName, claimed.size());
+        return claimed;
+    }
+
+    // 최신 순으로 dead-letter 조회
+    public List<MapRecord<String, Object, Object>> readDeadLetters(DeadLetterStream deadLetter, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .reverseRange(deadLetter.getKey(), Range.unbounded(), Limit.limit().count(count));
+        return records == null ? List.of() : records;
+    }
+
+    private void moveToDeadLetter(String streamKey, String group, PendingMessage pm, DeadLetterStream deadLetter) {
+        String id = pm.getIdAsString();
+        try {
+            List<MapRecord<String, Object, Object>> origin =
+                    redisTemplate.opsForStream().range(streamKey, Range.closed(id, id));
+
+            // 원본이 트리밍으로 사라졌으면 ACK만 수행
+            if (origin != null && !origin.isEmpty()) {
+                Map<String, String> fields = new HashMap<>();
+                origin.get(0).getValue().forEach((k, v) -> fields.put(String.valueOf(k), String.valueOf(v)));
+                fields.put(FIELD_SOURCE_STREAM, streamKey);
+                fields.put(FIELD_SOURCE_ID, id);
+                fields.put(FIELD_DELIVERY_COUNT, String.valueOf(pm.getTotalDeliveryCount()));
+                fields.put(FIELD_DEAD_AT, OffsetDateTime.now().toString());
+
+                redisTemplate.opsForStream().add(StreamRecords.newRecord().in(deadLetter.getKey()).ofMap(fields));
+                redisTemplate.opsForStream().trim(deadLetter.getKey(), DEAD_LETTER_MAX_LEN, true);
+            }
+
+            redisTemplate.opsForStream().acknowledge(streamKey, group, pm.getId());
+
+            meterRegistry.counter("stream.pending.dead_lettered", "stream", streamKey).increment();
+            log.warn("[STREAM_DLQ] moved to dead-letter. stream={}, id={}, deliveryCount={}, consumer={}",
+                    streamKey, id, pm.getTotalDeliveryCount(), pm.getConsumerName());
+        } catch (Exception e) {
+            log.error("[STREAM_DLQ] dead-letter move failed. stream={}, id={}", streamKey, id, e);
+        }
+    }
+}
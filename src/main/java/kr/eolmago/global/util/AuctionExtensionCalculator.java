@@ -0,0 +1,46 @@
+package kr.eolmago.global.util;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static kr.eolmago.service.auction.constants.AuctionConstants.*;
+
+// 자동 연장 종료시각 계산 유틸리티
+public class AuctionExtensionCalculator {
+
+    // 5분 이하 남았을 때 5분 자동 연장, 연장 후 남은 시간은 최대 30분을 넘지 않도록 캡 적용
+    // 원래 종료 시간으로부터 최대 12시간까지만 연장 가능
+    public static Optional<OffsetDateTime> nextEndAt(OffsetDateTime endAt, OffsetDateTime originalEndAt, OffsetDateTime now) {
+        if (endAt == null || originalEndAt == null) {
+            return Optional.empty();
+        }
+
+        // 남은시간 계산
+        long remainingSeconds = ChronoUnit.SECONDS.between(now, endAt);
+        if (remainingSeconds <= 0 || remainingSeconds > EXTENSION_THRESHOLD_SECONDS) {
+            return Optional.empty();
+        }
+
+        OffsetDateTime candidateEndAt = endAt.plusSeconds(EXTENSION_DURATION_SECONDS);
+        OffsetDateTime capEndAt = now.plusSeconds(MAX_REMAINING_SECONDS);
+        OffsetDateTime hardCapEndAt = originalEndAt.plusHours(HARD_MAX_EXTENSION_HOURS);
+
+        OffsetDateTime newEndAt = candidateEndAt;
+        if (newEndAt.isAfter(capEndAt)) {
+            newEndAt = capEndAt;
+        }
+        if (newEndAt.isAfter(hardCapEndAt)) {
+            newEndAt = hardCapEndAt;
+        }
+
+        if (!newEndAt.isAfter(endAt)) {
+            return Optional.empty();
+        }
+        return Optional.of(newEndAt);
+    }
+
+    private AuctionExtensionCalculator() {
+        // 인스턴스화 방지
+    }
+}
@@ -35,6 +35,38 @@ public class ChosungUtils {
     private static final int HANGUL_START = 0xAC00; // 44032 (가)
     private static final int HANGUL_END = 0xD7A3;   // 55203 (힣)
 
+    /**
+     * 자모 분해 테이블
+     * - 호환 자모 끝: 12643(ㅣ)
+     * - 겹모음/겹받침은 낱자 조합으로 풀어 씀
+     */
+    private static final int JAMO_END = 0x3163;
+
+    private static final String[] CHOSUNG_JAMO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSUNG_JAMO = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSUNG_JAMO = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모(ㄱ ~ ㅣ) 낱자 분해
+    private static final String[] COMPAT_JAMO = {
+            "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄸ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅃ", "ㅂㅅ",
+            "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ",
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
     /**
      * 초성만으로 이루어진 문자열 패턴
      * - ㄱ-ㅎ 범위만 매칭
@@ -159,5 +191,67 @@ public class ChosungUtils {
         }
     }
 
+    /**
+     * 자모 분해 (자동완성 prefix 키)
+     * - 완성형 한글을 초성/중성/종성 호환 자모로 분해, 겹모음/겹받침은 낱자로 풀어 씀
+     * - 영문은 소문자로, 그 외 문자는 그대로
+     *
+     * 입력 중인 글자도 같은 키로 이어지도록:
+     * ChosungUtils.decompose("아이폰")  // "ㅇㅏㅇㅣㅍㅗㄴ"
+     * ChosungUtils.decompose("아이ㅍ")  // "ㅇㅏㅇㅣㅍ"
+     * ChosungUtils.decompose("아잎")    // "ㅇㅏㅇㅣㅍ" (다음 글자 초성이 받침으로 붙은 상태)
+     * ChosungUtils.decompose("과")      // "ㄱㅗㅏ"
+     *
+     * @param text 분해할 문자열
+     * @return 자모 분해 문자열 (null이면 빈 문자열)
+     */
+    public static String decompose(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulChar(c)) {
+                int offset = c - HANGUL_START;
+                sb.append(CHOSUNG_JAMO[offset / 588]);
+                sb.append(JUNGSUNG_JAMO[(offset % 588) / 28]);
+                sb.append(JONGSUNG_JAMO[offset % 28]);
+            } else if (c >= CHOSUNG_START && c <= JAMO_END) {
+                sb.append(COMPAT_JAMO[c - CHOSUNG_START]);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 추출 (초성 검색 키)
+     * - 완성형 한글은 초성 호환 자모로, 그 외 문자는 그대로 (title_chosung/item_name_chosung 컬럼 값)
+     *
+     * ex)
+     * ChosungUtils.extractChosung("아이폰 14")  // "ㅇㅇㅍ 14"
+     * ChosungUtils.extractChosung("갤럭시S24")  // "ㄱㄹㅅS24"
+     *
+     * @param text 추출할 문자열
+     * @return 초성 문자열 (null이면 빈 문자열)
+     */
+    public static String extractChosung(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
 
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isHangulChar(c)) {
+                sb.append(CHOSUNG_JAMO[(c - HANGUL_START) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
 }
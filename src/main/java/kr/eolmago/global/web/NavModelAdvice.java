@@ -4,13 +4,15 @@ import kr.eolmago.global.security.CustomUserDetails;
 import kr.eolmago.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.servlet.error.ErrorController;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
 import java.util.UUID;
 
-@ControllerAdvice
+// 화면 컨트롤러와 에러 페이지에만 적용 (API 요청마다 nav 모델을 만들지 않음)
+@ControllerAdvice(basePackages = "kr.eolmago.controller.view", assignableTypes = ErrorController.class)
 @RequiredArgsConstructor
 @Slf4j
 public class NavModelAdvice {
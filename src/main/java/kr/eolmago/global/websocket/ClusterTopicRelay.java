@@ -0,0 +1,209 @@
+package kr.eolmago.global.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 노드 간 /topic 전달 (simple broker는 노드 로컬이라 Redis Pub/Sub으로 연결)
+ * - 발행: 로컬 구독자에게 바로 전송 + 목적지 채널로 PUBLISH (본문 = 발행 노드 ID + JSON)
+ * - 수신: 로컬 구독자가 있는 목적지 채널만 구독, 자기 노드가 보낸 메시지는 무시
+ * - 목적지 지표는 마지막 '.' 앞까지(방/경매 ID 제외)로 묶어 태그 수 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterTopicRelay implements MessageListener {
+
+	private static final String TOPIC_PREFIX = "/topic/";
+	private static final String CHANNEL_PREFIX = "stomp:relay:";
+	private static final char ORIGIN_SEPARATOR = '\n';
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final ThreadPoolTaskExecutor clientOutboundChannelExecutor;
+
+	private final String nodeId = "n-" + UUID.randomUUID().toString().substring(0, 8);
+
+	// 목적지별 로컬 구독 수, 세션별 (구독 ID -> 목적지)
+	private final Map<String, Integer> localSubscriptions = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void registerMetrics() {
+		Gauge.builder("stomp.relay.destinations", localSubscriptions, Map::size)
+			.description("이 노드에서 구독 중인 /topic 목적지 수")
+			.register(meterRegistry);
+		Gauge.builder("stomp.outbound.queue", clientOutboundChannelExecutor,
+				e -> e.getThreadPoolExecutor().getQueue().size())
+			.description("클라이언트 outbound 채널 대기 메시지 수")
+			.register(meterRegistry);
+	}
+
+	public void send(String destination, Object payload) {
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(payload);
+		} catch (Exception e) {
+			log.warn("[STOMP_RELAY] serialize failed. destination={}, err={}", destination, e.toString());
+			return;
+		}
+
+		if (localSubscriptions.containsKey(destination)) {
+			deliverLocal(destination, json);
+		}
+
+		try {
+			byte[] origin = (nodeId + ORIGIN_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+			byte[] body = new byte[origin.length + json.length];
+			System.arraycopy(origin, 0, body, 0, origin.length);
+			System.arraycopy(json, 0, body, origin.length, json.length);
+
+			byte[] channel = (CHANNEL_PREFIX + destination).getBytes(StandardCharsets.UTF_8);
+			redisTemplate.execute((RedisCallback<Object>) connection -> connection.publish(channel, body));
+			count("stomp.relay.published", destination);
+		} catch (Exception e) {
+			log.warn("[STOMP_RELAY] publish failed. destination={}, err={}", destination, e.toString());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		if (!channel.startsWith(CHANNEL_PREFIX)) return;
+		String destination = channel.substring(CHANNEL_PREFIX.length());
+
+		byte[] body = message.getBody();
+		int sep = indexOf(body, (byte) ORIGIN_SEPARATOR);
+		if (sep < 0) return;
+
+		String origin = new String(body, 0, sep, StandardCharsets.UTF_8);
+		if (nodeId.equals(origin)) return;
+
+		byte[] json = new byte[body.length - sep - 1];
+		System.arraycopy(body, sep + 1, json, 0, json.length);
+
+		count("stomp.relay.received", destination);
+		if (localSubscriptions.containsKey(destination)) {
+			deliverLocal(destination, json);
+		}
+	}
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = accessor.getDestination();
+		if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+			|| destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+			return;
+		}
+
+		String prev = sessionSubscriptions
+			.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+			.put(accessor.getSubscriptionId(), destination);
+		if (prev != null) {
+			release(prev);
+		}
+		acquire(destination);
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+		Map<String, String> subs = sessionSubscriptions.get(accessor.getSessionId());
+		if (subs == null) return;
+
+		String destination = subs.remove(accessor.getSubscriptionId());
+		if (destination != null) {
+			release(destination);
+		}
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		Map<String, String> subs = sessionSubscriptions.remove(event.getSessionId());
+		if (subs == null) return;
+
+		subs.values().forEach(this::release);
+	}
+
+	// 첫 로컬 구독자일 때만 Redis 채널 구독
+	private synchronized void acquire(String destination) {
+		int count = localSubscriptions.merge(destination, 1, Integer::sum);
+		if (count == 1) {
+			listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+		}
+	}
+
+	// 마지막 로컬 구독자가 나가면 Redis 채널 구독 해제
+	private synchronized void release(String destination) {
+		Integer count = localSubscriptions.computeIfPresent(destination, (k, v) -> v > 1 ? v - 1 : null);
+		if (count == null) {
+			listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+		}
+	}
+
+	private void deliverLocal(String destination, byte[] json) {
+		try {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+			accessor.setLeaveMutable(true);
+
+			messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+			count("stomp.relay.delivered", destination);
+		} catch (Exception e) {
+			log.warn("[STOMP_RELAY] local delivery failed. destination={}, err={}", destination, e.toString());
+		}
+	}
+
+	private void count(String name, String destination) {
+		Counter.builder(name)
+			.tag("destination", destinationGroup(destination))
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private static String destinationGroup(String destination) {
+		int dot = destination.lastIndexOf('.');
+		return dot > TOPIC_PREFIX.length() ? destination.substring(0, dot) : destination;
+	}
+
+	private static int indexOf(byte[] bytes, byte target) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == target) return i;
+		}
+		return -1;
+	}
+}
@@ -3,7 +3,6 @@ package kr.eolmago.repository.auction;
 import kr.eolmago.domain.entity.auction.Auction;
 import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
 import kr.eolmago.dto.view.auction.AuctionEndAtView;
-import org.springframework.data.domain.Pageable;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -14,7 +13,13 @@ public interface AuctionCloseRepositoryCustom {
 
     Optional<Auction> findByIdForUpdate(UUID auctionId);
 
-    List<AuctionEndAtView> findAllEndAtByStatus(AuctionStatus status);
+    // 다른 트랜잭션이 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+    Optional<Auction> findByIdForUpdateSkipLocked(UUID auctionId);
 
-    List<UUID> findIdsToClose(AuctionStatus status, OffsetDateTime now, Pageable pageable);
+    List<AuctionEndAtView> findEndAtPageByStatus(AuctionStatus status, UUID afterAuctionId, int limit);
+
+    // 마감 대상(endAt <= now)을 (endAt, auctionId) 키셋으로 조회, after가 null이면 첫 페이지
+    List<AuctionEndAtView> findOverduePage(AuctionStatus status, OffsetDateTime now, AuctionEndAtView after, int limit);
+
+    long countOverdue(AuctionStatus status, OffsetDateTime now);
 }
@@ -9,6 +9,7 @@ import kr.eolmago.dto.api.auction.response.AuctionListDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +30,23 @@ public interface AuctionRepositoryCustom {
 
     Optional<UUID> findSellerIdByAuctionId(UUID auctionId);
 
+    // 가격 장부 입찰 일괄 반영 (LIVE이고 현재가보다 높을 때만, 반영된 행 수 반환)
+    long applyBidBatch(
+            UUID auctionId,
+            int currentPrice,
+            UUID highestBidderId,
+            int bidCountDelta,
+            OffsetDateTime endAt,
+            int extendCountDelta,
+            int durationHours
+    );
+
+    // highest_bidder_id가 bids 최고가 입찰자와 다른 경매 ID (auction_id 키셋 페이징, endedSince가 있으면 LIVE + 최근 종료만)
+    List<UUID> findHighestBidderMismatches(UUID afterAuctionId, OffsetDateTime endedSince, int limit);
+
+    // bids 기준으로 highest_bidder_id 재계산 (현재가와 최고 입찰 금액이 일치하는 경우만)
+    int repairHighestBidders(List<UUID> auctionIds);
+
     // 좋아요 수 증가
     void incrementFavoriteCount(UUID auctionId);
 
@@ -12,7 +12,8 @@ import java.util.List;
  * Auction 검색 전용 커스텀 Repository 인터페이스
  *
  * 특수문자 포함으로 Native Query 사용:
- * - PostgreSQL 함수 (to_tsvector, similarity, extract_chosung)
+ * - PostgreSQL 함수 (to_tsvector, to_tsquery, word_similarity)
+ * - 초성 검색은 저장 시점에 계산한 title_chosung/item_name_chosung 컬럼 prefix LIKE
  * - QueryDSL 대신 @Query 사용
  *
  * 구현체:
@@ -50,7 +51,7 @@ public interface AuctionSearchRepositoryCustom {
     );
 
     /**
-     * 초성 검색 (extract_chosung 함수, 필터링 포함)
+     * 초성 검색 (미리 계산한 title_chosung/item_name_chosung prefix, 필터링 포함)
      */
     Page<AuctionListDto> searchByChosung(
             String chosungKeyword,
@@ -67,4 +68,11 @@ public interface AuctionSearchRepositoryCustom {
      * 추천 키워드 조회
      */
     List<String> getSuggestedKeywords();
+
+    /**
+     * 초성 키가 비어 있는 기존 행 채움 (limit 건씩)
+     *
+     * @return 이번에 채운 행 수 (0이면 완료)
+     */
+    int backfillChosung(int limit);
 }
@@ -16,6 +16,9 @@ public interface BidRepositoryCustom {
     // 기존 입찰 조회
     Optional<Bid> findByClientRequestIdAndBidderId(String clientRequestId, UUID bidderId);
 
+    // 입찰 일괄 INSERT (JDBC batch), 생성된 bidId를 입력 순서대로 반환
+    List<Long> batchInsert(List<Bid> bids);
+
     // 현재 최고가 입찰 조회
     Optional<Bid> findTopByAuctionOrderByAmountDescCreatedAtAsc(Auction auction);
 
@@ -8,7 +8,8 @@ import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
 import kr.eolmago.dto.view.auction.AuctionEndAtView;
 import kr.eolmago.repository.auction.AuctionCloseRepositoryCustom;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
@@ -36,9 +37,22 @@ public class AuctionCloseRepositoryImpl implements AuctionCloseRepositoryCustom
         return Optional.ofNullable(result);
     }
 
-    // 특정 상태의 경매들의 ID와 endAt 조회
+    // 경매 조회(비관적 락, 잠긴 행은 건너뜀)
     @Override
-    public List<AuctionEndAtView> findAllEndAtByStatus(AuctionStatus status) {
+    public Optional<Auction> findByIdForUpdateSkipLocked(UUID auctionId) {
+        Auction result = queryFactory
+                .selectFrom(auction)
+                .where(auction.auctionId.eq(auctionId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+
+    // 특정 상태의 경매 ID와 endAt을 auction_id 키셋으로 페이지 조회
+    @Override
+    public List<AuctionEndAtView> findEndAtPageByStatus(AuctionStatus status, UUID afterAuctionId, int limit) {
         return queryFactory
                 .select(Projections.constructor(
                         AuctionEndAtView.class,
@@ -46,22 +60,47 @@ public class AuctionCloseRepositoryImpl implements AuctionCloseRepositoryCustom
                         auction.endAt
                 ))
                 .from(auction)
-                .where(auction.status.eq(status))
+                .where(
+                        auction.status.eq(status),
+                        afterAuctionId != null ? auction.auctionId.gt(afterAuctionId) : null
+                )
+                .orderBy(auction.auctionId.asc())
+                .limit(limit)
                 .fetch();
     }
 
-    // 마감할 경매 ID 조회
+    // 마감할 경매 조회 (endAt, auctionId 키셋)
     @Override
-    public List<UUID> findIdsToClose(AuctionStatus status, OffsetDateTime now, Pageable pageable) {
+    public List<AuctionEndAtView> findOverduePage(AuctionStatus status, OffsetDateTime now, AuctionEndAtView after, int limit) {
         return queryFactory
-                .select(auction.auctionId)
+                .select(Projections.constructor(
+                        AuctionEndAtView.class,
+                        auction.auctionId,
+                        auction.endAt
+                ))
                 .from(auction)
                 .where(
                         auction.status.eq(status),
-                        auction.endAt.loe(now)
+                        auction.endAt.loe(now),
+                        after == null ? null : auction.endAt.gt(after.endAt())
+                                .or(auction.endAt.eq(after.endAt()).and(auction.auctionId.gt(after.auctionId())))
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(auction.endAt.asc(), auction.auctionId.asc())
+                .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public long countOverdue(AuctionStatus status, OffsetDateTime now) {
+        Long count = queryFactory
+                .select(auction.count())
+                .from(auction)
+                .where(
+                        auction.status.eq(status),
+                        auction.endAt.loe(now)
+                )
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
 }
\ No newline at end of file
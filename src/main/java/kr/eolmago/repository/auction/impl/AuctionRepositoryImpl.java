@@ -7,7 +7,9 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
 import kr.eolmago.domain.entity.auction.Auction;
 import kr.eolmago.domain.entity.auction.QAuction;
 import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
@@ -22,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -37,7 +40,18 @@ import static kr.eolmago.domain.entity.user.QUserProfile.userProfile;
 @RequiredArgsConstructor
 public class AuctionRepositoryImpl implements AuctionRepositoryCustom {
 
+    private static final String TOP_BID_LATERAL = """
+            LEFT JOIN LATERAL (
+                SELECT b.bidder_id, b.amount
+                FROM bids b
+                WHERE b.auction_id = a.auction_id
+                ORDER BY b.amount DESC, b.created_at ASC
+                LIMIT 1
+            ) t ON TRUE
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     // 경매 목록 조회
     @Override
@@ -148,7 +162,7 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom {
                         userProfile.nickname,
                         userProfile.tradeCount,
                         auctionImage.imageUrl,
-                        Expressions.nullExpression(UUID.class) // highestBidderId
+                        auction.highestBidderId
                 ))
                 .from(auction)
                 .innerJoin(auction.auctionItem, auctionItem)
@@ -188,6 +202,91 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom {
         return Optional.ofNullable(sellerId);
     }
 
+    @Override
+    public long applyBidBatch(
+            UUID auctionId,
+            int currentPrice,
+            UUID highestBidderId,
+            int bidCountDelta,
+            OffsetDateTime endAt,
+            int extendCountDelta,
+            int durationHours
+    ) {
+        return queryFactory
+                .update(auction)
+                .set(auction.currentPrice, currentPrice)
+                .set(auction.highestBidderId, highestBidderId)
+                .set(auction.bidCount, auction.bidCount.add(bidCountDelta))
+                .set(auction.endAt, endAt)
+                .set(auction.extendCount, auction.extendCount.add(extendCountDelta))
+                .set(auction.durationHours, durationHours)
+                .where(
+                        auction.auctionId.eq(auctionId),
+                        auction.status.eq(AuctionStatus.LIVE),
+                        auction.currentPrice.lt(currentPrice)
+                )
+                .execute();
+    }
+
+    @Override
+    public List<UUID> findHighestBidderMismatches(UUID afterAuctionId, OffsetDateTime endedSince, int limit) {
+        // endedSince가 있으면 LIVE + 그 이후 종료된 경매만 점검 (idx_auctions_status_end_at)
+        String recentFilter = """
+                AND (a.status = 'LIVE'
+                     OR (a.status IN ('ENDED_SOLD', 'ENDED_UNSOLD') AND a.end_at >= :endedSince))
+                """;
+
+        String sql = """
+                SELECT a.auction_id
+                FROM auctions a
+                """ + TOP_BID_LATERAL + """
+                WHERE a.highest_bidder_id IS DISTINCT FROM t.bidder_id
+                """ + (afterAuctionId != null ? "AND a.auction_id > :afterId " : "")
+                + (endedSince != null ? recentFilter : "") + """
+                ORDER BY a.auction_id
+                LIMIT :limit
+                """;
+
+        Query query = entityManager.createNativeQuery(sql, UUID.class)
+                .setParameter("limit", limit);
+        if (afterAuctionId != null) {
+            query.setParameter("afterId", afterAuctionId);
+        }
+        if (endedSince != null) {
+            query.setParameter("endedSince", endedSince);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<UUID> results = query.getResultList();
+        return results;
+    }
+
+    @Override
+    public int repairHighestBidders(List<UUID> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return 0;
+        }
+
+        // 동시 입찰로 현재가가 바뀐 행은 건너뜀(다음 점검에서 다시 확인)
+        String sql = """
+                UPDATE auctions a
+                SET highest_bidder_id = t.bidder_id
+                FROM (
+                    SELECT DISTINCT ON (b.auction_id) b.auction_id, b.bidder_id, b.amount
+                    FROM bids b
+                    WHERE b.auction_id IN (:ids)
+                    ORDER BY b.auction_id, b.amount DESC, b.created_at ASC
+                ) t
+                WHERE a.auction_id = t.auction_id
+                  AND a.current_price = t.amount
+                  AND a.highest_bidder_id IS DISTINCT FROM t.bidder_id
+                """;
+
+        return entityManager.createNativeQuery(sql)
+                .setParameter("ids", auctionIds)
+                .executeUpdate();
+    }
+
     @Override
     public void incrementFavoriteCount(UUID auctionId) {
         queryFactory
@@ -6,12 +6,14 @@ import kr.eolmago.domain.entity.auction.enums.AuctionEndReason;
 import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
 import kr.eolmago.domain.entity.auction.enums.ItemCategory;
 import kr.eolmago.dto.api.auction.response.AuctionListDto;
+import kr.eolmago.global.util.ChosungUtils;
 import kr.eolmago.repository.auction.AuctionSearchRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Timestamp;
@@ -25,14 +27,14 @@ import java.util.stream.Collectors;
  *
  * 역할:
  * - 특수문자 포함으로 Native Query 기반 복잡한 검색 쿼리 구현
- * - PostgreSQL 함수 호출 (to_tsvector(), word_similarity(), extract_chosung())
+ * - PostgreSQL 함수 호출 (to_tsvector(), word_similarity())
  * - 필터링 (카테고리, 브랜드, 가격 범위) 및 정렬
  * - 인덱스 활용 최적화
  *
  * 검색 전략:
  * 1. Full-Text Search: 띄어쓰기 무관 검색 (GIN 인덱스)
  * 2. Trigram: 오타 교정 (GiST 인덱스)
- * 3. Chosung: 초성 검색 (함수 기반 인덱스)
+ * 3. Chosung: 초성 검색 (쓰기 시점에 계산한 초성 컬럼 B-tree 인덱스)
  */
 @Repository
 @RequiredArgsConstructor
@@ -40,6 +42,7 @@ import java.util.stream.Collectors;
 public class AuctionSearchRepositoryCustomImpl implements AuctionSearchRepositoryCustom {
 
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     // ============================================
     // SQL 쿼리 템플릿 상수
@@ -85,6 +88,32 @@ public class AuctionSearchRepositoryCustomImpl implements AuctionSearchRepositor
         INNER JOIN auction_items ai ON a.auction_item_id = ai.auction_item_id
         """;
 
+    /**
+     * 초성 매칭 조건 (title_chosung, item_name_chosung 모두 C collation B-tree 인덱스)
+     */
+    private static final String CHOSUNG_MATCH = """
+        AND a.auction_id IN (
+            SELECT t.auction_id FROM auctions t
+            WHERE t.title_chosung LIKE :chosungPattern
+            UNION
+            SELECT t.auction_id FROM auctions t
+            INNER JOIN auction_items ti ON t.auction_item_id = ti.auction_item_id
+            WHERE ti.item_name_chosung LIKE :chosungPattern
+        )
+        """;
+
+    private static final String FIND_AUCTION_CHOSUNG_MISSING = """
+        SELECT auction_id, title FROM auctions
+        WHERE title_chosung IS NULL
+        LIMIT ?
+        """;
+
+    private static final String FIND_ITEM_CHOSUNG_MISSING = """
+        SELECT auction_item_id, item_name FROM auction_items
+        WHERE item_name_chosung IS NULL
+        LIMIT ?
+        """;
+
     // ============================================
     // 검색 메서드 구현
     // ============================================
@@ -199,7 +228,8 @@ public class AuctionSearchRepositoryCustomImpl implements AuctionSearchRepositor
         // WHERE 절 생성
         String whereClause = buildWhereClause(category, brands, minPrice, maxPrice, status);
         // item_name 또는 title 중 하나라도 초성이 매칭되면 검색 결과에 포함
-        whereClause += "AND (extract_chosung(ai.item_name) LIKE :chosungPattern OR extract_chosung(COALESCE(a.title, '')) LIKE :chosungPattern) ";
+        // 테이블마다 초성 컬럼 인덱스로 prefix 범위 조회 후 합침 (조인 후 OR이면 인덱스를 못 탐)
+        whereClause += CHOSUNG_MATCH;
 
         // ORDER BY 절 생성
         String orderBy = buildOrderBy(sort);
@@ -253,6 +283,25 @@ public class AuctionSearchRepositoryCustomImpl implements AuctionSearchRepositor
         return results != null ? results : new ArrayList<>();
     }
 
+    @Override
+    public int backfillChosung(int limit) {
+        List<Object[]> auctions = jdbcTemplate.query(FIND_AUCTION_CHOSUNG_MISSING,
+                (rs, i) -> new Object[]{ChosungUtils.extractChosung(rs.getString("title")), rs.getObject("auction_id", UUID.class)},
+                limit);
+        if (!auctions.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE auctions SET title_chosung = ? WHERE auction_id = ?", auctions);
+        }
+
+        List<Object[]> items = jdbcTemplate.query(FIND_ITEM_CHOSUNG_MISSING,
+                (rs, i) -> new Object[]{ChosungUtils.extractChosung(rs.getString("item_name")), rs.getLong("auction_item_id")},
+                limit);
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE auction_items SET item_name_chosung = ? WHERE auction_item_id = ?", items);
+        }
+
+        return auctions.size() + items.size();
+    }
+
     // ============================================
     // 헬퍼 메서드
     // ============================================
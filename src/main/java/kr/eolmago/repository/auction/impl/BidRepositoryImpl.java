@@ -12,8 +12,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,7 +33,43 @@ import static kr.eolmago.domain.entity.user.QUser.user;
 @RequiredArgsConstructor
 public class BidRepositoryImpl implements BidRepositoryCustom {
 
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bids (auction_id, bidder_id, amount, client_request_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> batchInsert(List<Bid> bids) {
+        if (bids.isEmpty()) {
+            return List.of();
+        }
+
+        // 현재 트랜잭션 커넥션에서 실행, IDENTITY 키는 getGeneratedKeys로 회수
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_BID_SQL, new String[]{"bid_id"})) {
+                for (Bid b : bids) {
+                    ps.setObject(1, b.getAuction().getAuctionId());
+                    ps.setObject(2, b.getBidder().getUserId());
+                    ps.setInt(3, b.getAmount());
+                    ps.setString(4, b.getClientRequestId());
+                    ps.setObject(5, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(bids.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
 
     @Override
     public Optional<Bid> findByClientRequestIdAndBidderId(String clientRequestId, UUID bidderId) {
@@ -0,0 +1,7 @@
+package kr.eolmago.repository.chat;
+
+import kr.eolmago.domain.entity.chat.ChatInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, Long>, ChatInboxRepositoryCustom {
+}
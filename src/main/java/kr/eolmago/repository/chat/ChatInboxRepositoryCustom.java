@@ -0,0 +1,25 @@
+package kr.eolmago.repository.chat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import kr.eolmago.domain.entity.chat.ChatRoomType;
+
+public interface ChatInboxRepositoryCustom {
+
+	List<ChatRoomSummaryProjection> findSummaries(UUID userId, ChatRoomType roomType);
+
+	// 방 참여자(판매자/구매자) 행 생성, 이미 있으면 무시
+	int createForRoom(Long roomId);
+
+	// 프로젝션이 없는 기존 방 일괄 생성
+	int backfillMissing();
+
+	// 방별 마지막 메시지 갱신 (더 큰 id일 때만)
+	void applyLastMessages(Collection<ChatMessageRow> lastMessages);
+
+	void increaseUnread(List<ChatInboxUnreadDelta> deltas);
+
+	void markReadAll(List<ChatReadReceipt> receipts);
+}
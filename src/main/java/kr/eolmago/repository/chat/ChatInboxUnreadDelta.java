@@ -0,0 +1,9 @@
+package kr.eolmago.repository.chat;
+
+import java.util.UUID;
+
+public record ChatInboxUnreadDelta(
+	Long roomId,
+	UUID userId,
+	int delta
+) {}
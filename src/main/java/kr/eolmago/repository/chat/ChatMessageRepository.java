@@ -5,7 +5,7 @@ import kr.eolmago.domain.entity.chat.ChatMessage;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
 
 	List<ChatMessage> findByChatRoomChatRoomIdOrderByChatMessageIdDesc(Long roomId, Pageable pageable);
 
@@ -0,0 +1,12 @@
+package kr.eolmago.repository.chat;
+
+import java.util.List;
+
+public interface ChatMessageRepositoryCustom {
+
+	// 시퀀스에서 메시지 id를 미리 발급
+	List<Long> nextIds(int count);
+
+	// 발급된 id로 다중 행 INSERT
+	void insertAll(List<ChatMessageRow> rows);
+}
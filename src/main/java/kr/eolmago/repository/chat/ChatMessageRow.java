@@ -0,0 +1,12 @@
+package kr.eolmago.repository.chat;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record ChatMessageRow(
+	Long messageId,
+	Long roomId,
+	UUID senderId,
+	String content,
+	OffsetDateTime createdAt
+) {}
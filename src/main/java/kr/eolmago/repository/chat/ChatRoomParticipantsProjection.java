@@ -0,0 +1,17 @@
+package kr.eolmago.repository.chat;
+
+import java.util.UUID;
+
+public record ChatRoomParticipantsProjection(
+	Long roomId,
+	UUID sellerId,
+	UUID buyerId
+) {
+	public boolean isParticipant(UUID userId) {
+		return sellerId.equals(userId) || buyerId.equals(userId);
+	}
+
+	public UUID counterpartOf(UUID userId) {
+		return sellerId.equals(userId) ? buyerId : sellerId;
+	}
+}
@@ -1,17 +1,21 @@
 package kr.eolmago.repository.chat;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import kr.eolmago.domain.entity.chat.ChatRoom;
-import kr.eolmago.domain.entity.chat.ChatRoomType;
 
 public interface ChatRoomRepositoryCustom {
 
-    List<ChatRoomSummaryProjection> findMyRoomSummariesByType(UUID userId, ChatRoomType roomType);
-
-    int markRead(Long roomId, UUID userId, Long messageId);
+    // 판매자/구매자 읽음 위치를 더 큰 값일 때만 갱신 (일괄)
+    void markReadAll(List<ChatReadReceipt> receipts);
 
     Optional<ChatRoom> findRoomViewById(Long roomId);
+
+    List<ChatRoomParticipantsProjection> findParticipantsByIds(Collection<Long> roomIds);
+
+    // 방별 마지막 메시지 id를 한 번씩만 갱신 (더 큰 값일 때만)
+    void advanceLastMessageIds(Map<Long, Long> lastMessageIdByRoom);
 }
@@ -12,5 +12,15 @@ public record ChatRoomSummaryProjection(
 	String thumbnailUrl,
 	String lastMessage,
 	OffsetDateTime lastMessageAt,
+	Long lastMessageId,
 	long unreadCount
-) {}
+) {
+	// 아직 DB에 반영되지 않은 읽음 위치가 마지막 메시지 이상이면 안 읽은 수 0
+	public ChatRoomSummaryProjection withPendingRead(Long pendingReadId) {
+		if (pendingReadId == null || unreadCount == 0) return this;
+		if (lastMessageId != null && pendingReadId < lastMessageId) return this;
+		return new ChatRoomSummaryProjection(
+			roomId, roomType, auctionId, auctionTitle, thumbnailUrl, lastMessage, lastMessageAt, lastMessageId, 0
+		);
+	}
+}
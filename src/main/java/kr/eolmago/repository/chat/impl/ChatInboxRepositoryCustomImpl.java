@@ -0,0 +1,144 @@
+package kr.eolmago.repository.chat.impl;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.eolmago.domain.entity.chat.ChatRoomType;
+import kr.eolmago.domain.entity.chat.QChatInbox;
+import kr.eolmago.repository.chat.ChatInboxRepositoryCustom;
+import kr.eolmago.repository.chat.ChatInboxUnreadDelta;
+import kr.eolmago.repository.chat.ChatMessageRow;
+import kr.eolmago.repository.chat.ChatReadReceipt;
+import kr.eolmago.repository.chat.ChatRoomSummaryProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class ChatInboxRepositoryCustomImpl implements ChatInboxRepositoryCustom {
+
+	private static final int PREVIEW_LENGTH = 200;
+
+	// 방의 판매자/구매자 두 행을 현재 상태(마지막 메시지, 읽음 위치 기준 안 읽은 수)로 생성
+	private static final String INSERT_FROM_ROOMS_SQL =
+		"INSERT INTO chat_inbox (chat_room_id, user_id, room_type, auction_id, auction_title, thumbnail_url, "
+			+ "last_message_id, last_message, last_message_at, unread_count, created_at, updated_at) "
+			+ "SELECT r.chat_room_id, p.user_id, r.room_type, a.auction_id, a.title, "
+			+ "(SELECT i.image_url FROM auction_images i WHERE i.auction_item_id = a.auction_item_id "
+			+ "ORDER BY i.display_order LIMIT 1), "
+			+ "m.chat_message_id, left(m.content, " + PREVIEW_LENGTH + "), m.created_at, "
+			+ "(SELECT count(*) FROM chat_messages u WHERE u.chat_room_id = r.chat_room_id "
+			+ "AND u.chat_message_id > coalesce(p.last_read_id, 0) AND u.sender_id <> p.user_id), "
+			+ "r.created_at, coalesce(m.created_at, r.updated_at) "
+			+ "FROM chat_rooms r "
+			+ "CROSS JOIN LATERAL (VALUES (r.seller_id, r.seller_last_read_id), (r.buyer_id, r.buyer_last_read_id)) "
+			+ "AS p(user_id, last_read_id) "
+			+ "LEFT JOIN auctions a ON a.auction_id = r.auction_id "
+			+ "LEFT JOIN chat_messages m ON m.chat_message_id = r.last_message_id ";
+
+	private static final String ON_CONFLICT = " ON CONFLICT (chat_room_id, user_id) DO NOTHING";
+
+	private static final String APPLY_LAST_MESSAGE_SQL =
+		"UPDATE chat_inbox SET last_message_id = ?, last_message = ?, last_message_at = ?, updated_at = ? "
+			+ "WHERE chat_room_id = ? AND coalesce(last_message_id, 0) < ?";
+
+	private static final String INCREASE_UNREAD_SQL =
+		"UPDATE chat_inbox SET unread_count = unread_count + ? WHERE chat_room_id = ? AND user_id = ?";
+
+	// 읽은 위치가 마지막 메시지 이상이면 0, 그 사이 새 메시지가 들어왔으면 그만큼만 다시 셈
+	private static final String MARK_READ_SQL =
+		"UPDATE chat_inbox SET unread_count = CASE WHEN ? >= coalesce(last_message_id, 0) THEN 0 "
+			+ "ELSE (SELECT count(*) FROM chat_messages m WHERE m.chat_room_id = ? "
+			+ "AND m.chat_message_id > ? AND m.sender_id <> ?) END "
+			+ "WHERE chat_room_id = ? AND user_id = ?";
+
+	private final JPAQueryFactory queryFactory;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<ChatRoomSummaryProjection> findSummaries(UUID userId, ChatRoomType roomType) {
+		QChatInbox i = QChatInbox.chatInbox;
+
+		return queryFactory
+			.select(Projections.constructor(
+				ChatRoomSummaryProjection.class,
+				i.chatRoomId,
+				i.roomType,
+				i.auctionId,
+				i.auctionTitle,
+				i.thumbnailUrl,
+				i.lastMessage,
+				i.lastMessageAt,
+				i.lastMessageId,
+				i.unreadCount
+			))
+			.from(i)
+			.where(
+				i.userId.eq(userId),
+				i.roomType.eq(roomType)
+			)
+			.orderBy(i.lastMessageId.desc().nullsLast(), i.updatedAt.desc())
+			.fetch();
+	}
+
+	@Override
+	public int createForRoom(Long roomId) {
+		return jdbcTemplate.update(INSERT_FROM_ROOMS_SQL + "WHERE r.chat_room_id = ?" + ON_CONFLICT, roomId);
+	}
+
+	@Override
+	public int backfillMissing() {
+		return jdbcTemplate.update(INSERT_FROM_ROOMS_SQL
+			+ "WHERE NOT EXISTS (SELECT 1 FROM chat_inbox x WHERE x.chat_room_id = r.chat_room_id)" + ON_CONFLICT);
+	}
+
+	@Override
+	public void applyLastMessages(Collection<ChatMessageRow> lastMessages) {
+		if (lastMessages.isEmpty()) return;
+
+		OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+		List<Object[]> args = new ArrayList<>(lastMessages.size());
+		for (ChatMessageRow row : lastMessages) {
+			args.add(new Object[]{
+				row.messageId(),
+				preview(row.content()),
+				row.createdAt(),
+				now,
+				row.roomId(),
+				row.messageId()
+			});
+		}
+		jdbcTemplate.batchUpdate(APPLY_LAST_MESSAGE_SQL, args);
+	}
+
+	@Override
+	public void increaseUnread(List<ChatInboxUnreadDelta> deltas) {
+		if (deltas.isEmpty()) return;
+
+		List<Object[]> args = new ArrayList<>(deltas.size());
+		for (ChatInboxUnreadDelta d : deltas) {
+			args.add(new Object[]{d.delta(), d.roomId(), d.userId()});
+		}
+		jdbcTemplate.batchUpdate(INCREASE_UNREAD_SQL, args);
+	}
+
+	@Override
+	public void markReadAll(List<ChatReadReceipt> receipts) {
+		if (receipts.isEmpty()) return;
+
+		List<Object[]> args = new ArrayList<>(receipts.size());
+		for (ChatReadReceipt r : receipts) {
+			args.add(new Object[]{r.messageId(), r.roomId(), r.messageId(), r.userId(), r.roomId(), r.userId()});
+		}
+		jdbcTemplate.batchUpdate(MARK_READ_SQL, args);
+	}
+
+	private static String preview(String content) {
+		return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+	}
+}
@@ -0,0 +1,63 @@
+package kr.eolmago.repository.chat.impl;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import kr.eolmago.repository.chat.ChatMessageRepositoryCustom;
+import kr.eolmago.repository.chat.ChatMessageRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+	// chat_message_id IDENTITY 컬럼이 쓰는 시퀀스를 그대로 사용
+	private static final String NEXT_IDS_SQL =
+		"SELECT nextval(pg_get_serial_sequence('chat_messages', 'chat_message_id')) FROM generate_series(1, ?)";
+
+	private static final String INSERT_PREFIX =
+		"INSERT INTO chat_messages (chat_message_id, chat_room_id, sender_id, content, created_at) VALUES ";
+
+	// 바인드 파라미터 한도(32767) 아래로 유지
+	private static final int MAX_ROWS_PER_STATEMENT = 1_000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> nextIds(int count) {
+		if (count <= 0) return List.of();
+		return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, count).stream().sorted().toList();
+	}
+
+	@Override
+	public void insertAll(List<ChatMessageRow> rows) {
+		for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+			insertChunk(rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size())));
+		}
+	}
+
+	private void insertChunk(List<ChatMessageRow> rows) {
+		if (rows.isEmpty()) return;
+
+		StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+		for (int i = 0; i < rows.size(); i++) {
+			sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+		}
+
+		// 현재 트랜잭션 커넥션에서 실행
+		jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+			try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+				int idx = 1;
+				for (ChatMessageRow row : rows) {
+					ps.setLong(idx++, row.messageId());
+					ps.setLong(idx++, row.roomId());
+					ps.setObject(idx++, row.senderId());
+					ps.setString(idx++, row.content());
+					ps.setObject(idx++, row.createdAt());
+				}
+				return ps.executeUpdate();
+			}
+		});
+	}
+}
@@ -1,158 +1,51 @@
 package kr.eolmago.repository.chat.impl;
 
-import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 import kr.eolmago.domain.entity.auction.QAuction;
-import kr.eolmago.domain.entity.auction.QAuctionImage;
-import kr.eolmago.domain.entity.auction.QAuctionItem;
 import kr.eolmago.domain.entity.chat.ChatRoom;
-import kr.eolmago.domain.entity.chat.ChatRoomType;
-import kr.eolmago.domain.entity.chat.QChatMessage;
 import kr.eolmago.domain.entity.chat.QChatRoom;
 import kr.eolmago.domain.entity.user.QUser;
+import kr.eolmago.repository.chat.ChatReadReceipt;
+import kr.eolmago.repository.chat.ChatRoomParticipantsProjection;
 import kr.eolmago.repository.chat.ChatRoomRepositoryCustom;
-import kr.eolmago.repository.chat.ChatRoomSummaryProjection;
 import lombok.RequiredArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @RequiredArgsConstructor
 public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 
-	private final JPAQueryFactory queryFactory;
-	private final EntityManager em;
+	private static final String ADVANCE_LAST_MESSAGE_SQL =
+		"UPDATE chat_rooms SET last_message_id = greatest(coalesce(last_message_id, 0), ?), updated_at = ? "
+			+ "WHERE chat_room_id = ?";
 
-	@Override
-	@Transactional(readOnly = true)
-	public List<ChatRoomSummaryProjection> findMyRoomSummariesByType(UUID userId, ChatRoomType roomType) {
-
-		QChatRoom cr = QChatRoom.chatRoom;
-		QAuction a = QAuction.auction;
-		QAuctionItem it = QAuctionItem.auctionItem;
-
-		QChatMessage msg = QChatMessage.chatMessage;
-		QChatMessage msg2 = new QChatMessage("msg2");
-
-		QAuctionImage img = QAuctionImage.auctionImage;
-		QAuctionImage img2 = new QAuctionImage("img2");
-
-		NumberExpression<Long> myLastReadId =
-			new CaseBuilder()
-				.when(cr.seller.userId.eq(userId)).then(cr.sellerLastReadId.coalesce(0L))
-				.when(cr.buyer.userId.eq(userId)).then(cr.buyerLastReadId.coalesce(0L))
-				.otherwise(0L);
-
-		Expression<Long> lastMsgId =
-			JPAExpressions.select(msg.chatMessageId.max())
-				.from(msg)
-				.where(msg.chatRoom.eq(cr));
-
-		Expression<String> lastMessage =
-			JPAExpressions.select(msg2.content)
-				.from(msg2)
-				.where(msg2.chatMessageId.eq(lastMsgId));
-
-		Expression<OffsetDateTime> lastMessageAt =
-			JPAExpressions.select(msg2.createdAt)
-				.from(msg2)
-				.where(msg2.chatMessageId.eq(lastMsgId));
-
-		Expression<Long> unreadCount =
-			JPAExpressions.select(msg.count())
-				.from(msg)
-				.where(
-					msg.chatRoom.eq(cr),
-					msg.chatMessageId.gt(myLastReadId),
-					msg.sender.userId.ne(userId)
-				);
-
-		Expression<String> thumbnailUrl =
-			JPAExpressions.select(img2.imageUrl)
-				.from(img2)
-				.where(
-					img2.auctionItem.eq(it)
-						.and(img2.displayOrder.eq(
-							JPAExpressions.select(img.displayOrder.min())
-								.from(img)
-								.where(img.auctionItem.eq(it))
-						))
-				);
+	private static final String MARK_READ_SQL =
+		"UPDATE chat_rooms SET "
+			+ "seller_last_read_id = CASE WHEN seller_id = ? "
+			+ "THEN greatest(coalesce(seller_last_read_id, 0), ?) ELSE seller_last_read_id END, "
+			+ "buyer_last_read_id = CASE WHEN buyer_id = ? "
+			+ "THEN greatest(coalesce(buyer_last_read_id, 0), ?) ELSE buyer_last_read_id END "
+			+ "WHERE chat_room_id = ?";
 
-		return queryFactory
-			.select(Projections.constructor(
-				ChatRoomSummaryProjection.class,
-				cr.chatRoomId,
-				cr.roomType,
-				a.auctionId,
-				a.title,
-				thumbnailUrl,
-				lastMessage,
-				lastMessageAt,
-				Expressions.numberTemplate(Long.class, "coalesce({0},0)", unreadCount)
-			))
-			.from(cr)
-			.leftJoin(cr.auction, a)
-			.leftJoin(a.auctionItem, it)
-			.where(
-				cr.roomType.eq(roomType),
-				cr.seller.userId.eq(userId)
-					.or(cr.buyer.userId.eq(userId))
-					.or(cr.targetUserId.eq(userId))
-			)
-			.orderBy(
-				Expressions.numberTemplate(Long.class, "coalesce({0},0)", lastMsgId).desc(),
-				cr.updatedAt.desc()
-			)
-			.fetch();
-	}
+	private final JPAQueryFactory queryFactory;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Override
-	@Transactional
-	public int markRead(Long roomId, UUID userId, Long messageId) {
-
-		QChatRoom cr = QChatRoom.chatRoom;
-
-		Expression<Long> newSellerLastRead =
-			new CaseBuilder()
-				.when(cr.seller.userId.eq(userId))
-				.then(Expressions.numberTemplate(
-					Long.class,
-					"greatest(coalesce({0},0), {1})",
-					cr.sellerLastReadId,
-					messageId
-				))
-				.otherwise(cr.sellerLastReadId);
-
-		Expression<Long> newBuyerLastRead =
-			new CaseBuilder()
-				.when(cr.buyer.userId.eq(userId))
-				.then(Expressions.numberTemplate(
-					Long.class,
-					"greatest(coalesce({0},0), {1})",
-					cr.buyerLastReadId,
-					messageId
-				))
-				.otherwise(cr.buyerLastReadId);
-
-		long updated = queryFactory
-			.update(cr)
-			.set(cr.sellerLastReadId, newSellerLastRead)
-			.set(cr.buyerLastReadId, newBuyerLastRead)
-			.where(cr.chatRoomId.eq(roomId))
-			.execute();
-
-		em.flush();
-		em.clear();
-		return (int) updated;
+	public void markReadAll(List<ChatReadReceipt> receipts) {
+		if (receipts.isEmpty()) return;
+
+		List<Object[]> args = new ArrayList<>(receipts.size());
+		for (ChatReadReceipt r : receipts) {
+			args.add(new Object[]{r.userId(), r.messageId(), r.userId(), r.messageId(), r.roomId()});
+		}
+		jdbcTemplate.batchUpdate(MARK_READ_SQL, args);
 	}
 
     @Override
@@ -174,4 +67,33 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 
         return Optional.ofNullable(result);
     }
+
+	@Override
+	public List<ChatRoomParticipantsProjection> findParticipantsByIds(Collection<Long> roomIds) {
+		if (roomIds.isEmpty()) return List.of();
+
+		QChatRoom r = QChatRoom.chatRoom;
+
+		return queryFactory
+			.select(Projections.constructor(
+				ChatRoomParticipantsProjection.class,
+				r.chatRoomId,
+				r.seller.userId,
+				r.buyer.userId
+			))
+			.from(r)
+			.where(r.chatRoomId.in(roomIds))
+			.fetch();
+	}
+
+	@Override
+	public void advanceLastMessageIds(Map<Long, Long> lastMessageIdByRoom) {
+		if (lastMessageIdByRoom.isEmpty()) return;
+
+		OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+		List<Object[]> args = new ArrayList<>(lastMessageIdByRoom.size());
+		lastMessageIdByRoom.forEach((roomId, messageId) -> args.add(new Object[]{messageId, now, roomId}));
+
+		jdbcTemplate.batchUpdate(ADVANCE_LAST_MESSAGE_SQL, args);
+	}
 }
@@ -0,0 +1,7 @@
+package kr.eolmago.repository.notification;
+
+import kr.eolmago.domain.entity.notification.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long>, NotificationOutboxRepositoryCustom {
+}
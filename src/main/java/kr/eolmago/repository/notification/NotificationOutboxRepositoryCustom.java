@@ -0,0 +1,16 @@
+package kr.eolmago.repository.notification;
+
+import java.util.List;
+import java.util.Optional;
+
+import kr.eolmago.domain.entity.notification.NotificationOutbox;
+
+public interface NotificationOutboxRepositoryCustom {
+
+    // 오래된 순으로 잠금, 다른 워커가 잡은 행은 건너뜀
+    List<NotificationOutbox> lockNextBatch(int limit);
+
+    Optional<NotificationOutbox> lockById(Long outboxId);
+
+    List<Long> findNextIds(int limit);
+}
@@ -1,8 +1,19 @@
 package kr.eolmago.repository.notification;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import kr.eolmago.domain.entity.notification.Notification;
+
 public interface NotificationRepositoryCustom {
     int markAllRead(UUID userId, OffsetDateTime now);
+
+    // JDBC batch INSERT, 입력 순서대로 생성된 ID 반환
+    List<Long> batchInsert(List<Notification> notifications, OffsetDateTime now);
+
+    // 사용자별 안 읽은 알림 수 (없는 사용자는 결과에서 빠짐)
+    Map<UUID, Long> countUnreadByUsers(Collection<UUID> userIds);
 }
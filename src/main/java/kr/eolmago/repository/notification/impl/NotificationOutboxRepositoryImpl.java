@@ -0,0 +1,55 @@
+package kr.eolmago.repository.notification.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import kr.eolmago.domain.entity.notification.NotificationOutbox;
+import kr.eolmago.repository.notification.NotificationOutboxRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kr.eolmago.domain.entity.notification.QNotificationOutbox.notificationOutbox;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<NotificationOutbox> lockNextBatch(int limit) {
+        return queryFactory
+                .selectFrom(notificationOutbox)
+                .orderBy(notificationOutbox.outboxId.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    @Override
+    public Optional<NotificationOutbox> lockById(Long outboxId) {
+        NotificationOutbox result = queryFactory
+                .selectFrom(notificationOutbox)
+                .where(notificationOutbox.outboxId.eq(outboxId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public List<Long> findNextIds(int limit) {
+        return queryFactory
+                .select(notificationOutbox.outboxId)
+                .from(notificationOutbox)
+                .orderBy(notificationOutbox.outboxId.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,21 +1,37 @@
 package kr.eolmago.repository.notification.impl;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import kr.eolmago.domain.entity.notification.Notification;
 import kr.eolmago.domain.entity.notification.QNotification;
 import kr.eolmago.repository.notification.NotificationRepositoryCustom;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
 
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (user_id, type, title, body, link_url, related_entity_type, related_entity_id, "
+                    + "is_read, is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, false, false, ?, ?)";
+
     private final JPAQueryFactory queryFactory;
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public int markAllRead(UUID userId, OffsetDateTime now) {
@@ -36,4 +52,64 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
 
         return updated;
     }
+
+    @Override
+    public List<Long> batchInsert(List<Notification> notifications, OffsetDateTime now) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        // 현재 트랜잭션 커넥션에서 실행, IDENTITY 키는 getGeneratedKeys로 회수
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_NOTIFICATION_SQL, new String[]{"notification_id"})) {
+                for (Notification n : notifications) {
+                    ps.setObject(1, n.getUser().getUserId());
+                    ps.setString(2, n.getType().name());
+                    ps.setString(3, n.getTitle());
+                    ps.setString(4, n.getBody());
+                    ps.setString(5, n.getLinkUrl());
+                    ps.setString(6, n.getRelatedEntityType() == null ? null : n.getRelatedEntityType().name());
+                    ps.setString(7, n.getRelatedEntityId());
+                    ps.setObject(8, now);
+                    ps.setObject(9, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(notifications.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    @Override
+    public Map<UUID, Long> countUnreadByUsers(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QNotification n = QNotification.notification;
+
+        List<Tuple> rows = queryFactory
+                .select(n.user.userId, n.count())
+                .from(n)
+                .where(
+                        n.user.userId.in(userIds),
+                        n.read.isFalse(),
+                        n.deleted.isFalse()
+                )
+                .groupBy(n.user.userId)
+                .fetch();
+
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Tuple row : rows) {
+            counts.put(row.get(n.user.userId), row.get(n.count()));
+        }
+        return counts;
+    }
 }
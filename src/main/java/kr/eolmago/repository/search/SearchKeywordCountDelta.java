@@ -0,0 +1,7 @@
+package kr.eolmago.repository.search;
+
+public record SearchKeywordCountDelta(
+        String keyword,
+        String keywordType,
+        long count
+) {}
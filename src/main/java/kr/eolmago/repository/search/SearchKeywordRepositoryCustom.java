@@ -47,32 +47,53 @@ public interface SearchKeywordRepositoryCustom {
     List<SearchKeyword> findByChosungPrefix(String chosungPrefix, int limit);
 
     /**
-     * 오래된 키워드 정리 (스케줄러 작업용)
+     * 오래된 키워드 청크 삭제 (스케줄러 작업용)
      *
      * 동작:
      * 1. lastSearchedAt < threshold (예: 3개월 전)
      * 2. AND searchCount < minCount (예: 5회 미만)
-     * 3. 조건 만족하는 키워드 조회
+     * 3. 조건 만족하는 키워드를 최대 limit건 삭제 (DELETE ... RETURNING, 엔티티 로딩 없음)
      *
      * @param threshold 기준 시간
      * @param minCount 최소 검색 횟수
-     * @return 삭제 대상 키워드 목록
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 검색어 목록 (limit 미만이면 남은 대상 없음)
      */
-    List<SearchKeyword> findInactiveKeywords(OffsetDateTime threshold, int minCount);
+    List<String> deleteInactiveKeywords(OffsetDateTime threshold, int minCount, int limit);
 
     /**
-     * 검색어 통계 원자적 업데이트 (UPSERT)
+     * id 키셋 페이지 조회 (자동완성 인덱스 전체 적재용)
+     *
+     * @param lastId 이전 페이지 마지막 id (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return id 오름차순 검색어 목록
+     */
+    List<SearchKeyword> findPageAfterId(Long lastId, int limit);
+
+    /**
+     * 기준 시각 이후 검색된 검색어 조회 (자동완성 인덱스 증분 반영용)
+     * - (lastSearchedAt, id) 키셋, 같은 시각에 갱신된 검색어가 많아도 이어서 조회
+     *
+     * @param since 기준 시각 (afterId가 null이면 포함)
+     * @param afterId 같은 시각 내 이전 페이지 마지막 id (첫 페이지는 null)
+     * @param limit 최대 개수
+     * @return (lastSearchedAt, id) 오름차순 검색어 목록
+     */
+    List<SearchKeyword> findSearchedSince(OffsetDateTime since, Long afterId, int limit);
+
+    /**
+     * 검색어 통계 일괄 원자적 업데이트 (multi-row UPSERT)
      *
      * 동작:
-     * - 검색어가 없으면: INSERT (search_count = 1)
-     * - 검색어가 있으면: UPDATE (search_count + 1)
-     * - PostgreSQL의 INSERT ... ON CONFLICT 활용
+     * - 검색어가 없으면: INSERT (search_count = count)
+     * - 검색어가 있으면: UPDATE (search_count + count)
+     * - PostgreSQL의 INSERT ... VALUES (...), (...) ON CONFLICT 한 문장으로 처리
      *
      * 동시성:
      * - DB 레벨에서 원자적으로 처리 (Race Condition 없음)
-     * - 트랜잭션 격리 수준에 의존하지 않음
+     * - 같은 검색어가 한 문장에 두 번 들어오면 안 됨 (ON CONFLICT 제약)
      *
-     * @param keyword 검색어
+     * @param deltas 검색어별 누적 검색 횟수
      */
-    void upsertSearchCount(String keyword, String keywordType);
+    void upsertSearchCounts(List<SearchKeywordCountDelta> deltas);
 }
@@ -1,11 +1,12 @@
 package kr.eolmago.repository.search.impl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.EntityManager;
 import kr.eolmago.domain.entity.search.QSearchKeyword;
 import kr.eolmago.domain.entity.search.SearchKeyword;
+import kr.eolmago.repository.search.SearchKeywordCountDelta;
 import kr.eolmago.repository.search.SearchKeywordRepositoryCustom;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
@@ -22,7 +23,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SearchKeywordRepositoryImpl implements SearchKeywordRepositoryCustom {
     private final JPAQueryFactory queryFactory;
-    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     QSearchKeyword searchKeyword = QSearchKeyword.searchKeyword;
 
@@ -81,78 +82,103 @@ public class SearchKeywordRepositoryImpl implements SearchKeywordRepositoryCusto
     }
 
     /**
-     * 오래된 키워드 정리
+     * 오래된 키워드 청크 삭제
      *
      * 예시:
-     * - findInactiveKeywords(3개월전, 5)
-     * - WHERE last_searched_at < '2024-10-01' AND search_count < 5
+     * - deleteInactiveKeywords(3개월전, 5, 1000)
+     * - DELETE ... WHERE id IN (SELECT id ... WHERE last_searched_at < '2024-10-01' AND search_count < 5 LIMIT 1000)
+     * - RETURNING keyword
      *
      * 연결 부분:
-     * - 배치 작업에서 호출
-     * - 데이터 정리로 DB/Redis 최적화
+     * - SearchKeywordScheduler에서 짧은 트랜잭션으로 반복 호출
+     * - 반환된 검색어로 Redis/로컬 자동완성 인덱스 정리
      *
-     * 확장 가능:
-     * - 나중에 OR 조건 추가 (예: 특정 타입만 삭제)
-     * - 동적 조건 추가 (예: 관리자 설정값 기반)
+     * 동시성:
+     * - FOR UPDATE SKIP LOCKED: 여러 노드가 동시에 돌아도 같은 행을 기다리지 않음
      */
     @Override
-    public List<SearchKeyword> findInactiveKeywords(OffsetDateTime threshold, int minCount) {
+    public List<String> deleteInactiveKeywords(OffsetDateTime threshold, int minCount, int limit) {
+        String sql = """
+            DELETE FROM search_keywords
+            WHERE id IN (
+                SELECT id FROM search_keywords
+                WHERE last_searched_at < ? AND search_count < ?
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING keyword
+            """;
+
+        return jdbcTemplate.queryForList(sql, String.class, threshold, minCount, limit);
+    }
+
+    @Override
+    public List<SearchKeyword> findPageAfterId(Long lastId, int limit) {
         return queryFactory
                 .selectFrom(searchKeyword)
-                .where(
-                        // 오래된 검색어: lastSearchedAt < threshold
-                        searchKeyword.lastSearchedAt.lt(threshold),
+                .where(lastId == null ? null : searchKeyword.id.gt(lastId))
+                .orderBy(searchKeyword.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 
-                        // AND 검색량 적은 검색어: searchCount < minCount
-                        searchKeyword.searchCount.lt(minCount)
-                )
+    @Override
+    public List<SearchKeyword> findSearchedSince(OffsetDateTime since, Long afterId, int limit) {
+        return queryFactory
+                .selectFrom(searchKeyword)
+                .where(afterId == null
+                        ? searchKeyword.lastSearchedAt.goe(since)
+                        : searchKeyword.lastSearchedAt.gt(since)
+                                .or(searchKeyword.lastSearchedAt.eq(since).and(searchKeyword.id.gt(afterId))))
+                .orderBy(searchKeyword.lastSearchedAt.asc(), searchKeyword.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
     /**
-     * 검색어 통계 원자적 업데이트 (UPSERT)
+     * 검색어 통계 일괄 원자적 업데이트 (multi-row UPSERT)
      *
-     * PostgreSQL의 INSERT ... ON CONFLICT DO UPDATE 활용
+     * PostgreSQL의 INSERT ... VALUES (...), (...) ON CONFLICT DO UPDATE 활용
      *
      * 동작:
      * 1. 검색어가 없으면 (INSERT):
-     *    - keyword, search_count=1, keyword_type(자동판단), last_searched_at=현재시간, created_at=현재시간
+     *    - keyword, search_count=count, keyword_type, last_searched_at=현재시간, created_at=현재시간
      *
      * 2. 검색어가 있으면 (UPDATE):
-     *    - search_count = search_count + 1
+     *    - search_count = search_count + count
      *    - last_searched_at = 현재시간
      *
      * 동시성 보장:
      * - DB 레벨에서 원자적으로 처리 (ACID 보장)
-     * - Race Condition 없음
-     * - Lost Update 없음
+     * - 여러 노드가 동시에 반영해도 행 잠금 순서가 같도록 검색어 순으로 정렬해서 전달
      *
      * keyword_type 판단 로직:
      * - BRAND: 브랜드명 포함 (아이폰|갤럭시|픽셀|샤오미|apple|samsung|google|xiaomi)
      * - MODEL: 숫자 포함
      * - GENERAL: 그 외
      *
-     * @param keyword 검색어
+     * @param deltas 검색어별 누적 검색 횟수
      */
     @Override
-    public void upsertSearchCount(String keyword, String keywordType) {
-        String sql = """
-            INSERT INTO search_keywords (keyword, search_count, keyword_type, last_searched_at, created_at)
-            VALUES (
-                :keyword,
-                1,
-                :keywordType,
-                NOW(),
-                NOW()
-            )
-            ON CONFLICT (keyword) DO UPDATE SET
-                search_count = search_keywords.search_count + 1,
-                last_searched_at = NOW()
-            """;
+    public void upsertSearchCounts(List<SearchKeywordCountDelta> deltas) {
+        if (deltas.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO search_keywords (keyword, search_count, keyword_type, last_searched_at, created_at) VALUES ");
+        Object[] args = new Object[deltas.size() * 3];
+        for (int i = 0; i < deltas.size(); i++) {
+            SearchKeywordCountDelta delta = deltas.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, NOW(), NOW())" : ", (?, ?, ?, NOW(), NOW())");
+            args[i * 3] = delta.keyword();
+            args[i * 3 + 1] = delta.count();
+            args[i * 3 + 2] = delta.keywordType();
+        }
+        sql.append("""
+                 ON CONFLICT (keyword) DO UPDATE SET
+                    search_count = search_keywords.search_count + EXCLUDED.search_count,
+                    last_searched_at = EXCLUDED.last_searched_at
+                """);
 
-        entityManager.createNativeQuery(sql)
-                .setParameter("keyword", keyword)
-                .setParameter("keywordType", keywordType)
-                .executeUpdate();
+        jdbcTemplate.update(sql.toString(), args);
     }
 }
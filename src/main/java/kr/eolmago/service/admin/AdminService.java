@@ -11,10 +11,14 @@ import kr.eolmago.domain.entity.user.UserProfile;
 import kr.eolmago.domain.entity.user.enums.PenaltyType;
 import kr.eolmago.domain.entity.user.enums.UserRole;
 import kr.eolmago.domain.entity.user.enums.UserStatus;
+import kr.eolmago.dto.api.admin.response.DeadLetterResponse;
 import kr.eolmago.dto.api.admin.response.PenaltyHistoryResponse;
 import kr.eolmago.dto.api.admin.response.ReportAdminResponse;
 import kr.eolmago.dto.api.admin.response.UserAdminResponse;
 import kr.eolmago.dto.api.common.PageResponse;
+import kr.eolmago.global.security.PrincipalCache;
+import kr.eolmago.global.stream.DeadLetterStream;
+import kr.eolmago.global.stream.StreamPendingReclaimer;
 import kr.eolmago.repository.report.ReportRepository;
 import kr.eolmago.repository.user.SocialLoginRepository;
 import kr.eolmago.repository.user.UserPenaltyRepository;
@@ -23,11 +27,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -40,6 +47,8 @@ public class AdminService {
     private final UserPenaltyRepository userPenaltyRepository;
     private final SocialLoginRepository socialLoginRepository;
     private final ReportRepository reportRepository;
+    private final StreamPendingReclaimer pendingReclaimer;
+    private final PrincipalCache principalCache;
 
     /**
      * 사용자 목록 조회 (필터링 + 페이지네이션)
@@ -158,6 +167,7 @@ public class AdminService {
         }
 
         user.updateStatus(newStatus);
+        principalCache.evictAfterCommit(userId);
 
         if (newStatus == UserStatus.SUSPENDED || newStatus == UserStatus.BANNED) {
             createPenaltyRecord(user, newStatus, reason);
@@ -186,6 +196,15 @@ public class AdminService {
                 .toList();
     }
 
+    /**
+     * 스트림 dead-letter 조회 (최신 순)
+     */
+    public List<DeadLetterResponse> getDeadLetters(DeadLetterStream stream, int count) {
+        return pendingReclaimer.readDeadLetters(stream, count).stream()
+                .map(this::toDeadLetterResponse)
+                .toList();
+    }
+
     // ================= PRIVATE METHODS ================= //
 
     private void applySuspension(User user, int days, String reason, Report report) {
@@ -195,6 +214,7 @@ public class AdminService {
         }
 
         user.updateStatus(UserStatus.SUSPENDED);
+        principalCache.evictAfterCommit(user.getUserId());
 
         // 신고 횟수 증가
         UserProfile userProfile = user.getUserProfile();
@@ -217,6 +237,7 @@ public class AdminService {
 
     private void applyBan(User user, String reason, Report report) {
         user.updateStatus(UserStatus.BANNED);
+        principalCache.evictAfterCommit(user.getUserId());
 
         // 신고 횟수 증가
         UserProfile userProfile = user.getUserProfile();
@@ -273,6 +294,22 @@ public class AdminService {
         };
     }
 
+    private DeadLetterResponse toDeadLetterResponse(MapRecord<String, Object, Object> record) {
+        Map<String, String> payload = new LinkedHashMap<>();
+        record.getValue().forEach((k, v) -> payload.put(String.valueOf(k), String.valueOf(v)));
+
+        String deliveryCount = payload.remove(StreamPendingReclaimer.FIELD_DELIVERY_COUNT);
+
+        return DeadLetterResponse.builder()
+                .id(record.getId().getValue())
+                .sourceStream(payload.remove(StreamPendingReclaimer.FIELD_SOURCE_STREAM))
+                .sourceId(payload.remove(StreamPendingReclaimer.FIELD_SOURCE_ID))
+                .deliveryCount(deliveryCount != null ? Long.parseLong(deliveryCount) : 0L)
+                .deadAt(payload.remove(StreamPendingReclaimer.FIELD_DEAD_AT))
+                .payload(payload)
+                .build();
+    }
+
     private UserAdminResponse toUserAdminResponse(User user) {
         UserProfile profile = user.getUserProfile();
         String email = socialLoginRepository.findByUser(user).stream()
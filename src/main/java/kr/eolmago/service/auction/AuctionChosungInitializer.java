@@ -0,0 +1,37 @@
+package kr.eolmago.service.auction;
+
+import kr.eolmago.repository.auction.AuctionSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 초성 키가 없는 기존 경매/상품을 기동 시 한 번 채움 (이후는 엔티티 생성/수정 시점에 계산)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionChosungInitializer implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final AuctionSearchRepository auctionSearchRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int total = 0;
+            int updated;
+            do {
+                updated = auctionSearchRepository.backfillChosung(BATCH_SIZE);
+                total += updated;
+            } while (updated > 0);
+
+            if (total > 0) {
+                log.info("[SEARCH_CHOSUNG] backfilled. rows={}", total);
+            }
+        } catch (Exception e) {
+            log.warn("[SEARCH_CHOSUNG] backfill failed. err={}", e.getMessage());
+        }
+    }
+}
@@ -1,29 +1,43 @@
 package kr.eolmago.service.auction;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
 import kr.eolmago.dto.view.auction.AuctionEndAtView;
 import kr.eolmago.repository.auction.AuctionCloseRepository;
+import kr.eolmago.service.auction.close.AuctionCloseQueue;
+import kr.eolmago.service.auction.close.AuctionCloseTimerWheel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.task.TaskRejectedException;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static kr.eolmago.service.auction.constants.AuctionConstants.*;
 
+/**
+ * 경매 마감 스케줄러
+ * - 마감 예정은 Redis 마감 큐(ZSET)에 저장, 모든 노드가 등록/연장
+ * - 리더 노드 하나만 곧 마감될 구간을 로컬 타이머 휠로 내려받아 정시에 마감
+ * - 리더가 바뀌면 새 리더가 LIVE 경매를 페이지 단위로 다시 큐에 적재
+ * - 적체 스위프는 리더와 무관하게 모든 노드가 나눠 처리
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -32,112 +46,227 @@ public class AuctionCloseScheduler {
     private final TaskScheduler taskScheduler;
     private final AuctionCloseService auctionCloseService;
     private final AuctionCloseRepository auctionCloseRepository;
+    private final AuctionCloseQueue closeQueue;
+    private final ThreadPoolTaskExecutor auctionCloseExecutor;
+    private final MeterRegistry meterRegistry;
 
-    private final AtomicLong tokenSeq = new AtomicLong(0);
-    private final ConcurrentMap<UUID, ScheduledRef> scheduled = new ConcurrentHashMap<>();
+    private final String nodeId = "n-" + UUID.randomUUID().toString().substring(0, 8);
 
+    private volatile boolean leader;
+    private final AtomicLong closeBacklog = new AtomicLong();
+
+    private AuctionCloseTimerWheel wheel;
+    private ScheduledFuture<?> pollTask;
+
+    // 등록/연장(AFTER_COMMIT 이벤트), 어느 노드에서든 호출
     public void scheduleOrReschedule(UUID auctionId, OffsetDateTime endAt) {
         if (auctionId == null || endAt == null) return;
 
-        long token = tokenSeq.incrementAndGet();
+        try {
+            closeQueue.schedule(auctionId, endAt);
+        } catch (Exception e) {
+            // 스위프가 endAt 경과 후 마감
+            log.warn("[AUC_CLOSE_QUEUE_ERROR] 마감 큐 등록 실패. auctionId={}, endAt={}, cause={}",
+                    auctionId, endAt, e.toString());
+            return;
+        }
 
-        Instant runAt = endAt.toInstant();
-        Instant now = Instant.now();
-        if (runAt.isBefore(now)) {
-            runAt = now;
+        long endAtMs = endAt.toInstant().toEpochMilli();
+        if (leader && wheel != null && endAtMs <= System.currentTimeMillis() + CLOSE_PREFETCH_HORIZON_MS) {
+            wheel.add(auctionId, endAtMs);
         }
+    }
 
-        ScheduledRef newRef = new ScheduledRef(token);
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("auction.close.backlog", closeBacklog, AtomicLong::get)
+                .description("스위프 시점 기준 endAt이 지난 LIVE 경매 수")
+                .register(meterRegistry);
+    }
 
-        ScheduledRef prev = scheduled.put(auctionId, newRef);
-        if (prev != null && prev.future != null) {
-            prev.future.cancel(false);
-        }
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrapOnStartup() {
+        wheel = new AuctionCloseTimerWheel(CLOSE_WHEEL_TICK_MS, CLOSE_WHEEL_SIZE, this::onWheelExpired);
+        pollTask = taskScheduler.scheduleWithFixedDelay(this::pollQueue, Duration.ofMillis(CLOSE_PREFETCH_INTERVAL_MS));
+        log.info("경매 마감 스케줄러 시작. nodeId={}", nodeId);
+    }
 
+    // 리더 갱신 후 곧 마감될 항목을 휠로 내려받음
+    private void pollQueue() {
+        boolean wasLeader = leader;
         try {
-            ScheduledFuture<?> future = taskScheduler.schedule(() -> runCloseSafely(auctionId, token), runAt);
+            Duration ttl = Duration.ofMillis(CLOSE_LEADER_TTL_MS);
+            leader = wasLeader ? closeQueue.renewLeader(nodeId, ttl) : closeQueue.tryAcquireLeader(nodeId, ttl);
+        } catch (Exception e) {
+            leader = false;
+            log.warn("[AUC_CLOSE_LEADER_ERROR] 마감 리더 갱신 실패. nodeId={}, cause={}", nodeId, e.toString());
+        }
 
-            if (future == null) {
-                scheduled.computeIfPresent(auctionId, (id, ref) -> ref.token == token ? null : ref);
-                log.warn("[AUC_CLOSE_SCH_NULL] 경매 마감 스케줄 등록 실패(null). auctionId={}, runAt={}", auctionId, runAt);
-                return;
+        if (!leader) {
+            if (wasLeader) {
+                wheel.clear();
+                log.warn("[AUC_CLOSE_LEADER_LOST] 마감 리더 상실. nodeId={}", nodeId);
             }
+            return;
+        }
 
-            newRef.future = future;
+        if (!wasLeader) {
+            log.info("[AUC_CLOSE_LEADER] 마감 리더 획득. nodeId={}", nodeId);
+            taskScheduler.schedule(this::rebuildQueue, Instant.now());
+        }
 
-        } catch (TaskRejectedException e) {
-            scheduled.computeIfPresent(auctionId, (id, ref) -> ref.token == token ? null : ref);
-            log.warn("[AUC_CLOSE_SCH_REJECTED] 경매 마감 스케줄 등록 거절. auctionId={}, runAt={}, cause={}",
-                    auctionId, runAt, e.toString());
-        } catch (RuntimeException e) {
-            scheduled.computeIfPresent(auctionId, (id, ref) -> ref.token == token ? null : ref);
-            log.error("[AUC_CLOSE_SCH_ERROR] 경매 마감 스케줄 등록 오류. auctionId={}, runAt={}, cause={}",
-                    auctionId, runAt, e.toString());
+        try {
+            long horizon = System.currentTimeMillis() + CLOSE_PREFETCH_HORIZON_MS;
+            for (ZSetOperations.TypedTuple<String> tuple : closeQueue.peekUntil(horizon, CLOSE_PREFETCH_LIMIT)) {
+                if (tuple.getValue() == null || tuple.getScore() == null) continue;
+                wheel.add(UUID.fromString(tuple.getValue()), tuple.getScore().longValue());
+            }
+        } catch (Exception e) {
+            log.warn("[AUC_CLOSE_QUEUE_ERROR] 마감 큐 조회 실패. cause={}", e.toString());
         }
     }
 
-    private void runCloseSafely(UUID auctionId, long token) {
+    // LIVE 경매를 키셋 페이지 단위로 큐에 적재 (ZADD GT라 이미 연장된 값은 유지)
+    private void rebuildQueue() {
         try {
-            auctionCloseService.closeAuction(auctionId);
+            int count = 0;
+            UUID cursor = null;
+            while (leader) {
+                List<AuctionEndAtView> page =
+                        auctionCloseRepository.findEndAtPageByStatus(AuctionStatus.LIVE, cursor, SWEEP_PAGE_SIZE);
+                if (page.isEmpty()) break;
+
+                closeQueue.scheduleAll(page);
+                count += page.size();
+
+                if (page.size() < SWEEP_PAGE_SIZE) break;
+                cursor = page.get(page.size() - 1).auctionId();
+            }
+            log.info("경매 마감 큐 재적재 완료. count={}", count);
         } catch (Exception e) {
-            log.error("경매 마감 실행 실패. auctionId={}, token={}", auctionId, token, e);
-        } finally {
-            scheduled.computeIfPresent(auctionId, (id, ref) -> ref.token == token ? null : ref);
+            log.error("경매 마감 큐 재적재 실패.", e);
         }
     }
 
-    // 서버 재시작 시 LIVE 경매들의 endAt을 다시 스케줄에 등록
-    @EventListener(ApplicationReadyEvent.class)
-    public void bootstrapOnStartup() {
+    private void onWheelExpired(UUID auctionId, long deadlineMs) {
+        taskScheduler.schedule(() -> closeDue(auctionId, deadlineMs), Instant.now());
+    }
+
+    private void closeDue(UUID auctionId, long deadlineMs) {
         try {
-            List<AuctionEndAtView> lives = auctionCloseRepository.findAllEndAtByStatus(AuctionStatus.LIVE);
+            if (!leader) return;
 
-            int count = 0;
-            for (AuctionEndAtView v : lives) {
-                if (v.auctionId() == null || v.endAt() == null) continue;
-                scheduleOrReschedule(v.auctionId(), v.endAt());
-                count++;
+            Double score = closeQueue.scoreOf(auctionId);
+            if (score == null) return; // 이미 마감됨
+            long scoreMs = score.longValue();
+            if (scoreMs > System.currentTimeMillis()) return; // 연장됨, 다음 조회에서 새 마감 시각으로 등록
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                boolean closed = auctionCloseService.closeAuction(auctionId);
+                recordClose(sample, "timer", closed ? "closed" : "skipped");
+            } catch (Exception e) {
+                recordClose(sample, "timer", "error");
+                throw e;
             }
-            log.info("경매 마감 부트스트랩 완료. scheduledCount={}", count);
+            closeQueue.complete(auctionId, scoreMs);
         } catch (Exception e) {
-            log.error("경매 마감 부트스트랩 실패.", e);
+            log.error("경매 마감 실행 실패. auctionId={}", auctionId, e);
+            try {
+                closeQueue.retryAt(auctionId, System.currentTimeMillis() + CLOSE_RETRY_DELAY_MS);
+            } catch (Exception ignored) {}
+        } finally {
+            wheel.release(auctionId, deadlineMs);
         }
     }
 
-    // endAt <= now 인 LIVE를 주기적으로 마감
+    /**
+     * 큐 유실/등록 실패 대비 안전망이자 장애 후 적체 해소
+     * - 실행 시점 기준 마감 대상을 (endAt, auctionId) 키셋 페이지로 끝까지 순회
+     * - 워커 풀에서 병렬 마감, SKIP LOCKED라 여러 노드가 동시에 돌아도 같은 경매를 기다리지 않음
+     */
     @Scheduled(fixedDelay = 60000)
     public void sweepOverdueAuctions() {
         try {
             OffsetDateTime now = OffsetDateTime.now();
 
-            List<UUID> ids = auctionCloseRepository.findIdsToClose(
-                    AuctionStatus.LIVE,
-                    now,
-                    PageRequest.of(0, SWEEP_PAGE_SIZE)
-            );
+            long backlog = auctionCloseRepository.countOverdue(AuctionStatus.LIVE, now);
+            closeBacklog.set(backlog);
+            if (backlog == 0) return;
+
+            log.info("경매 마감 스위프 시작. backlog={}", backlog);
 
-            if (ids.isEmpty()) return;
+            int closed = 0;
+            int skipped = 0;
+            AuctionEndAtView cursor = null;
+            while (true) {
+                List<AuctionEndAtView> page =
+                        auctionCloseRepository.findOverduePage(AuctionStatus.LIVE, now, cursor, SWEEP_PAGE_SIZE);
+                if (page.isEmpty()) break;
 
-            log.info("경매 마감 스위프 시작. count={}", ids.size());
+                List<CompletableFuture<Boolean>> futures = page.stream()
+                        .map(v -> CompletableFuture.supplyAsync(() -> sweepOne(v.auctionId()), auctionCloseExecutor))
+                        .toList();
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
 
-            for (UUID id : ids) {
-                try {
-                    auctionCloseService.closeAuction(id);
-                } catch (Exception e) {
-                    log.error("경매 마감 스위프 개별 실패. auctionId={}", id, e);
+                for (CompletableFuture<Boolean> f : futures) {
+                    if (f.join()) closed++;
+                    else skipped++;
                 }
+
+                if (page.size() < SWEEP_PAGE_SIZE) break;
+                cursor = page.get(page.size() - 1);
             }
+
+            closeBacklog.set(auctionCloseRepository.countOverdue(AuctionStatus.LIVE, OffsetDateTime.now()));
+            log.info("경매 마감 스위프 완료. closed={}, skipped={}, remaining={}", closed, skipped, closeBacklog.get());
         } catch (Exception e) {
             log.error("경매 마감 스위프 실행 중 오류.", e);
         }
     }
 
-    private static final class ScheduledRef {
-        private final long token;
-        private volatile ScheduledFuture<?> future;
+    // 실제로 마감했으면 true, 다른 트랜잭션이 잡고 있거나 이미 마감/연장됐거나 실패하면 false(다음 스위프에서 재확인)
+    private boolean sweepOne(UUID auctionId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (!auctionCloseService.closeAuctionIfUnlocked(auctionId)) {
+                recordClose(sample, "sweep", "skipped");
+                return false;
+            }
+            recordClose(sample, "sweep", "closed");
+        } catch (Exception e) {
+            recordClose(sample, "sweep", "error");
+            log.error("경매 마감 스위프 개별 실패. auctionId={}", auctionId, e);
+            return false;
+        }
 
-        private ScheduledRef(long token) {
-            this.token = token;
+        try {
+            closeQueue.complete(auctionId, System.currentTimeMillis());
+        } catch (Exception ignored) {}
+        return true;
+    }
+
+    // 잠금 획득 ~ 커밋까지(REQUIRES_NEW 트랜잭션 포함) 마감 처리 시간
+    private void recordClose(Timer.Sample sample, String trigger, String outcome) {
+        sample.stop(Timer.builder("auction.close.duration")
+                .tag("trigger", trigger)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+        }
+        if (wheel != null) {
+            wheel.shutdown();
+        }
+        if (leader) {
+            leader = false;
+            try {
+                closeQueue.releaseLeader(nodeId);
+            } catch (Exception ignored) {}
         }
     }
-}
\ No newline at end of file
+}
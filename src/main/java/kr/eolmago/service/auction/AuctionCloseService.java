@@ -1,5 +1,7 @@
 package kr.eolmago.service.auction;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.eolmago.domain.entity.auction.Auction;
 import kr.eolmago.domain.entity.auction.AuctionImage;
 import kr.eolmago.domain.entity.auction.AuctionItem;
@@ -11,6 +13,7 @@ import kr.eolmago.global.exception.BusinessException;
 import kr.eolmago.global.exception.ErrorCode;
 import kr.eolmago.repository.auction.*;
 import kr.eolmago.repository.user.UserRepository;
+import kr.eolmago.service.auction.event.AuctionClosedEvent;
 import kr.eolmago.service.auction.event.AuctionSoldEvent;
 import kr.eolmago.service.notification.publish.NotificationPublishCommand;
 import kr.eolmago.service.notification.publish.NotificationPublisher;
@@ -22,10 +25,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -45,43 +50,78 @@ public class AuctionCloseService {
 
     private final ApplicationEventPublisher eventPublisher;
 
-    // 트랜잭션 전파 - 항상 새로운 트랜잭션을 시작
+    private final MeterRegistry meterRegistry;
+
+    // 트랜잭션 전파 - 항상 새로운 트랜잭션을 시작, 실제로 마감했으면 true
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void closeAuction(UUID auctionId) {
+    public boolean closeAuction(UUID auctionId) {
 
         Auction auction = auctionCloseRepository.findByIdForUpdate(auctionId)
             .orElseThrow(() -> new BusinessException(ErrorCode.AUCTION_NOT_FOUND));
 
+        return close(auction);
+    }
+
+    // 스위프용: 다른 노드/입찰이 잠근 경매는 건너뜀, 잠금을 얻어 실제로 마감했으면 true
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean closeAuctionIfUnlocked(UUID auctionId) {
+        Optional<Auction> locked = auctionCloseRepository.findByIdForUpdateSkipLocked(auctionId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+
+        return close(locked.get());
+    }
+
+    // LIVE가 아니거나 종료 시각이 연장됐으면 아무것도 하지 않고 false
+    private boolean close(Auction auction) {
         if (auction.getStatus() != AuctionStatus.LIVE) {
-            return;
+            return false;
         }
 
         OffsetDateTime now = OffsetDateTime.now();
         if (auction.getEndAt() == null || auction.getEndAt().isAfter(now)) {
-            return;
+            return false;
+        }
+
+        // 입찰 시 함께 갱신된 최고 입찰자/현재가 사용, 백필 전 데이터만 bids 조회
+        UUID highestBidderId = auction.getHighestBidderId();
+        Long finalPrice = (long) auction.getCurrentPrice();
+
+        if (highestBidderId == null && auction.getBidCount() > 0) {
+            Bid highestBid = bidRepository
+                .findTopByAuctionOrderByAmountDescCreatedAtAsc(auction)
+                .orElse(null);
+            if (highestBid != null) {
+                highestBidderId = highestBid.getBidder().getUserId();
+                finalPrice = (long) highestBid.getAmount();
+            }
         }
 
-        Bid highestBid = bidRepository
-            .findTopByAuctionOrderByAmountDescCreatedAtAsc(auction)
-            .orElse(null);
+        // 마감 지연(endAt 대비 실제 마감 시각)
+        Timer.builder("auction.close.delay")
+            .tag("outcome", highestBidderId == null ? "unsold" : "sold")
+            .register(meterRegistry)
+            .record(Duration.between(auction.getEndAt(), now));
 
-        if (highestBid == null) {
+        if (highestBidderId == null) {
             auction.closeAsUnsold();
-            notificationPublisher.publish(
+            eventPublisher.publishEvent(new AuctionClosedEvent(auction.getAuctionId()));
+            notificationPublisher.enqueue(
                 NotificationPublishCommand.auctionUnsold(
                     auction.getSeller().getUserId(),
                     auction.getAuctionId()
                 )
             );
-            return;
+            return true;
         }
 
-        User buyer = highestBid.getBidder();
-        Long finalPrice = (long) highestBid.getAmount();
+        User buyer = userRepository.getReferenceById(highestBidderId);
 
         auction.closeAsSold(buyer, finalPrice);
+        eventPublisher.publishEvent(new AuctionClosedEvent(auction.getAuctionId()));
 
-        notificationPublisher.publish(
+        notificationPublisher.enqueue(
             NotificationPublishCommand.auctionSold(
                 auction.getSeller().getUserId(),
                 auction.getAuctionId(),
@@ -89,7 +129,7 @@ public class AuctionCloseService {
             )
         );
 
-        notificationPublisher.publish(
+        notificationPublisher.enqueue(
             NotificationPublishCommand.auctionWon(
                 buyer.getUserId(),
                 auction.getAuctionId(),
@@ -107,6 +147,7 @@ public class AuctionCloseService {
             event.auctionId(), event.sellerId(), event.buyerId(), finalPrice);
 
         eventPublisher.publishEvent(event);
+        return true;
     }
 
 
@@ -192,8 +233,9 @@ public class AuctionCloseService {
         }
 
         auction.cancelBySeller();
+        eventPublisher.publishEvent(new AuctionClosedEvent(auction.getAuctionId()));
 
-        notificationPublisher.publish(
+        notificationPublisher.enqueue(
             NotificationPublishCommand.auctionCanceled(
                 sellerId,
                 auction.getAuctionId()
@@ -0,0 +1,88 @@
+package kr.eolmago.service.auction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.eolmago.dto.api.admin.response.HighestBidderCheckResponse;
+import kr.eolmago.repository.auction.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static kr.eolmago.service.auction.constants.AuctionConstants.SWEEP_PAGE_SIZE;
+
+/**
+ * auctions.highest_bidder_id 정합성 점검/복구
+ * - bids 최고가 입찰자와 비교해 불일치 경매를 찾고, 현재가가 최고 입찰 금액과 같은 행만 복구
+ * - 정기 점검은 한 노드만(Redis SET NX 락), LIVE + 최근 종료 경매만 대상
+ * - 관리자 요청은 전체 경매 점검, 컬럼 추가 직후 백필도 같은 경로로 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionHighestBidderChecker {
+
+    private static final String LOCK_KEY = "auction:highest-bidder:check:lock";
+    private static final long CHECK_INTERVAL_MS = 600_000L;
+    // 직전 점검 이후 종료된 경매가 빠지지 않도록 점검 주기의 2배
+    private static final long RECENT_ENDED_WINDOW_MS = CHECK_INTERVAL_MS * 2;
+
+    private final AuctionRepository auctionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = CHECK_INTERVAL_MS)
+    public void scheduledCheck() {
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY, "1", Duration.ofMillis(CHECK_INTERVAL_MS));
+            if (!Boolean.TRUE.equals(locked)) return;
+
+            check(OffsetDateTime.now().minus(Duration.ofMillis(RECENT_ENDED_WINDOW_MS)), true);
+        } catch (Exception e) {
+            log.error("[AUC_HIGHEST_BIDDER] consistency check failed", e);
+        }
+    }
+
+    // 관리자 요청: 전체 경매 점검
+    public HighestBidderCheckResponse checkAndRepair(boolean repair) {
+        return check(null, repair);
+    }
+
+    // auction_id 순으로 페이지 단위 점검, 페이지마다 별도 트랜잭션으로 복구 (endedSince가 null이면 전체)
+    private HighestBidderCheckResponse check(OffsetDateTime endedSince, boolean repair) {
+        long mismatched = 0;
+        long repaired = 0;
+        UUID cursor = null;
+
+        while (true) {
+            List<UUID> page = auctionRepository.findHighestBidderMismatches(cursor, endedSince, SWEEP_PAGE_SIZE);
+            if (page.isEmpty()) break;
+
+            mismatched += page.size();
+            if (repair) {
+                Integer updated = transactionTemplate.execute(status -> auctionRepository.repairHighestBidders(page));
+                repaired += updated != null ? updated : 0;
+            }
+
+            if (page.size() < SWEEP_PAGE_SIZE) break;
+            cursor = page.get(page.size() - 1);
+        }
+
+        if (mismatched > 0) {
+            Counter.builder("auction.highest_bidder.mismatch")
+                    .register(meterRegistry)
+                    .increment(mismatched);
+            log.warn("[AUC_HIGHEST_BIDDER] mismatched={}, repaired={}", mismatched, repaired);
+        }
+        return new HighestBidderCheckResponse(mismatched, repaired);
+    }
+}
@@ -177,8 +177,8 @@ public class AuctionSearchService {
      *
      * 예시:
      * - "ㅇㅇㅍ" 검색
-     *   → extract_chosung("아이폰 14") = "ㅇㅇㅍ 14"
-     *   → LIKE 'ㅇㅇㅍ%' 매칭 ✅
+     *   → title_chosung = ChosungUtils.extractChosung("아이폰 14") = "ㅇㅇㅍ 14" (저장 시점에 계산)
+     *   → LIKE 'ㅇㅇㅍ%' 인덱스 범위 매칭 ✅
      *
      * - "ㅇㅍ" 검색
      *   → 정확한 초성 순서 필요
@@ -201,12 +201,9 @@ public class AuctionSearchService {
     ) {
         log.debug("초성 검색 실행: keyword={}", keyword);
 
-        // 1. 초성 패턴 (LIKE 'ㅇㅇㅍ%')
-        String chosungPattern = keyword + "%";
-
-        // 2. 초성 검색 (Native Query)
+        // 1. 초성 검색 (Native Query, Repository에서 LIKE 'ㅇㅇㅍ%' 패턴 생성)
         Page<AuctionListDto> dtoPage = auctionSearchRepository.searchByChosung(
-                chosungPattern,
+                keyword,
                 category, brands, minPrice, maxPrice, sort,
                 status != null ? AuctionStatus.valueOf(status.name()) : null,
                 pageable
@@ -17,7 +17,6 @@ import kr.eolmago.global.util.BidIncrementCalculator;
 import kr.eolmago.repository.auction.AuctionImageRepository;
 import kr.eolmago.repository.auction.AuctionItemRepository;
 import kr.eolmago.repository.auction.AuctionRepository;
-import kr.eolmago.repository.auction.BidRepository;
 import kr.eolmago.repository.user.UserRepository;
 import kr.eolmago.service.auction.event.AuctionEndAtChangedEvent;
 import kr.eolmago.service.notification.publish.NotificationPublishCommand;
@@ -44,7 +43,6 @@ public class AuctionService {
     private final AuctionRepository auctionRepository;
     private final AuctionItemRepository auctionItemRepository;
     private final AuctionImageRepository auctionImageRepository;
-    private final BidRepository bidRepository;
     private final UserRepository userRepository;
 
     private final AuctionCloseService auctionCloseService;
@@ -271,13 +269,7 @@ public class AuctionService {
                 .map(AuctionImage::getImageUrl)
                 .toList();
 
-        // 최고 입찰자 ID 조회
-        Auction auctionRef = auctionRepository.getReferenceById(auctionId);
-        UUID highestBidderId = bidRepository.findTopBidderIdByAuction(auctionRef).orElse(null);
-
-        AuctionDetailDto dtoWithHighestBidder = dto.withHighestBidderId(highestBidderId);
-
-        return AuctionDetailResponse.from(dtoWithHighestBidder, imageUrls);
+        return AuctionDetailResponse.from(dto, imageUrls);
     }
 
     public void closeAuction(UUID auctionId) {
@@ -1,5 +1,7 @@
 package kr.eolmago.service.auction;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.eolmago.domain.entity.auction.Auction;
 import kr.eolmago.domain.entity.auction.Bid;
 import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
@@ -7,22 +9,35 @@ import kr.eolmago.domain.entity.user.User;
 import kr.eolmago.dto.api.auction.response.BidCreateResponse;
 import kr.eolmago.global.exception.BusinessException;
 import kr.eolmago.global.exception.ErrorCode;
+import kr.eolmago.global.util.AuctionExtensionCalculator;
 import kr.eolmago.global.util.DurationCalculator;
 import kr.eolmago.repository.auction.AuctionRepository;
 import kr.eolmago.repository.auction.BidRepository;
 import kr.eolmago.repository.user.UserRepository;
+import kr.eolmago.service.auction.book.AcceptedBid;
+import kr.eolmago.service.auction.book.AuctionPriceState;
+import kr.eolmago.service.auction.book.BidBatchResult;
 import kr.eolmago.service.auction.event.AuctionEndAtChangedEvent;
+import kr.eolmago.service.auction.event.AuctionPriceChangedEvent;
 import kr.eolmago.service.notification.publish.NotificationPublishCommand;
 import kr.eolmago.service.notification.publish.NotificationPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.OffsetDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static kr.eolmago.service.auction.constants.AuctionConstants.*;
 
@@ -35,22 +50,26 @@ public class BidCommandService {
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final NotificationPublisher notificationPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public BidCreateResponse createBid(UUID auctionId, UUID buyerId, int amount, String requestId) {
+        recordTransaction("single");
 
         // 이미 처리된 요청이면 재처리 방지
-        Optional<Bid> existing = bidRepository.findByClientRequestIdAndBidderId(requestId, buyerId);
+        Optional<BidCreateResponse> existing = findProcessedBid(buyerId, amount, requestId);
         if (existing.isPresent()) {
-            Bid bid = existing.get();
-            if (bid.getAmount() != amount) {
-                throw new BusinessException(ErrorCode.BID_IDEMPOTENCY_CONFLICT);
-            }
-            return buildBidCreateResponse(bid, false);
+            return existing.get();
         }
 
         // FOR UPDATE DB 락
-        Auction auction = auctionRepository.findByIdForUpdate(auctionId)
+        Timer.Sample lockWait = Timer.start(meterRegistry);
+        Optional<Auction> locked = auctionRepository.findByIdForUpdate(auctionId);
+        lockWait.stop(Timer.builder("auction.bid.lock.wait")
+            .description("경매 행 FOR UPDATE 획득 대기")
+            .register(meterRegistry));
+
+        Auction auction = locked
             .orElseThrow(() -> new BusinessException(ErrorCode.AUCTION_NOT_FOUND));
 
         if (auction.getStatus() != AuctionStatus.LIVE) {
@@ -73,8 +92,7 @@ public class BidCommandService {
             throw new BusinessException(ErrorCode.BID_INVALID_INCREMENT);
         }
 
-        UUID prevHighestBidderId =
-            bidRepository.findTopBidderIdByAuction(auction).orElse(null);
+        UUID prevHighestBidderId = auction.getHighestBidderId();
 
         // 입찰 생성
         User bidder = userRepository.getReferenceById(buyerId);
@@ -82,9 +100,9 @@ public class BidCommandService {
         bidRepository.save(bid);
 
         // 경매 갱신
-        auction.updateBid(amount);
+        auction.updateBid(amount, buyerId);
 
-        notificationPublisher.publish(
+        notificationPublisher.enqueue(
             NotificationPublishCommand.bidAccepted(
                 buyerId,
                 auction.getAuctionId(),
@@ -93,7 +111,7 @@ public class BidCommandService {
         );
 
         if (prevHighestBidderId != null && !prevHighestBidderId.equals(buyerId)) {
-            notificationPublisher.publish(
+            notificationPublisher.enqueue(
                 NotificationPublishCommand.bidOutbid(
                     prevHighestBidderId,
                     auction.getAuctionId()
@@ -113,50 +131,159 @@ public class BidCommandService {
             );
         }
 
+        eventPublisher.publishEvent(
+            new AuctionPriceChangedEvent(
+                auction.getAuctionId(),
+                amount,
+                auction.getBidCount(),
+                auction.getEndAt(),
+                extensionApplied,
+                buyerId
+            )
+        );
+
         return buildBidCreateResponse(bid, extensionApplied);
     }
 
+    // 이미 반영된 요청이면 기존 입찰 응답 반환(재전달 레코드 멱등 처리)
+    @Transactional(readOnly = true)
+    public Optional<BidCreateResponse> findProcessedBid(UUID buyerId, int amount, String requestId) {
+        return bidRepository.findByClientRequestIdAndBidderId(requestId, buyerId)
+            .map(bid -> {
+                if (bid.getAmount() != amount) {
+                    throw new BusinessException(ErrorCode.BID_IDEMPOTENCY_CONFLICT);
+                }
+                return buildBidCreateResponse(bid, false);
+            });
+    }
+
+    // 가격 장부 미스 시 DB 기준 상태 적재
+    @Transactional(readOnly = true)
+    public AuctionPriceState loadPriceState(UUID auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.AUCTION_NOT_FOUND));
 
-    // 자동 연장
-    private boolean tryAutoExtension(Auction auction, OffsetDateTime now) {
-        OffsetDateTime endAt = auction.getEndAt();
-        OffsetDateTime originalEndAt = auction.getOriginalEndAt();
+        return AuctionPriceState.of(auction);
+    }
 
-        if (endAt == null || originalEndAt == null) {
-            return false;
+    /**
+     * 가격 장부에서 수락된 입찰 일괄 반영
+     * - 행 락 없이 경매별 최종 상태 조건부 UPDATE 1회, 입찰은 JDBC batch INSERT 1회
+     * - 조건 불일치(종료/역전) 경매는 해당 경매 입찰만 빼고 반영, 호출 측이 그 입찰만 건별 createBid로 재처리
+     */
+    @Transactional
+    public BidBatchResult persistAcceptedBids(List<AcceptedBid> accepted) {
+        recordTransaction("batch");
+
+        Map<UUID, List<AcceptedBid>> byAuction = new LinkedHashMap<>();
+        for (AcceptedBid a : accepted) {
+            byAuction.computeIfAbsent(a.auctionId(), k -> new ArrayList<>()).add(a);
         }
 
-        // 남은시간 계산
-        long remainingSeconds = ChronoUnit.SECONDS.between(now, endAt);
-        if (remainingSeconds <= 0) {
-            return false;
+        // 경매별 마지막 입찰이 최종 상태, UPDATE를 먼저 실행해 0건인 경매의 입찰은 INSERT하지 않음
+        Set<UUID> rejectedAuctionIds = new HashSet<>();
+        byAuction.forEach((auctionId, auctionBids) -> {
+            AcceptedBid last = auctionBids.get(auctionBids.size() - 1);
+            int extendCount = (int) auctionBids.stream().filter(AcceptedBid::extensionApplied).count();
+
+            long updated = auctionRepository.applyBidBatch(
+                auctionId,
+                last.amount(),
+                last.buyerId(),
+                auctionBids.size(),
+                last.endAt(),
+                extendCount,
+                last.durationHours()
+            );
+            if (updated == 0) {
+                rejectedAuctionIds.add(auctionId);
+                return;
+            }
+
+            if (extendCount > 0) {
+                eventPublisher.publishEvent(new AuctionEndAtChangedEvent(auctionId, last.endAt()));
+            }
+
+            eventPublisher.publishEvent(new AuctionPriceChangedEvent(
+                auctionId,
+                last.amount(),
+                last.bidCount(),
+                last.endAt(),
+                extendCount > 0,
+                last.buyerId()
+            ));
+        });
+
+        List<AcceptedBid> applied = rejectedAuctionIds.isEmpty()
+            ? accepted
+            : accepted.stream().filter(a -> !rejectedAuctionIds.contains(a.auctionId())).toList();
+
+        List<Bid> bids = new ArrayList<>(applied.size());
+        for (AcceptedBid a : applied) {
+            Auction auctionRef = auctionRepository.getReferenceById(a.auctionId());
+            User bidder = userRepository.getReferenceById(a.buyerId());
+            bids.add(Bid.create(auctionRef, bidder, a.amount(), a.requestId()));
         }
 
-        if (remainingSeconds > EXTENSION_THRESHOLD_SECONDS) {
-            return false;
+        List<Long> bidIds = bidRepository.batchInsert(bids);
+
+        List<BidCreateResponse> responses = new ArrayList<>(applied.size());
+        for (int i = 0; i < applied.size(); i++) {
+            AcceptedBid a = applied.get(i);
+            responses.add(new BidCreateResponse(
+                bidIds.get(i),
+                a.auctionId(),
+                a.amount(),
+                a.amount(),
+                a.minAcceptableAmount(),
+                a.endAt(),
+                a.extensionApplied(),
+                a.buyerId()
+            ));
         }
 
-        OffsetDateTime candidateEndAt = endAt.plusSeconds(EXTENSION_DURATION_SECONDS);
-        OffsetDateTime capEndAt = now.plusSeconds(MAX_REMAINING_SECONDS);
-        OffsetDateTime hardCapEndAt = originalEndAt.plusHours(HARD_MAX_EXTENSION_HOURS);
+        for (AcceptedBid a : applied) {
+            notificationPublisher.enqueue(
+                NotificationPublishCommand.bidAccepted(a.buyerId(), a.auctionId(), a.amount())
+            );
 
-        // 최종 종료시각 갱신
-        // 5분 이하 남았을 때 5분 자동 연장, 연장 후 남은 시간은 최대 30분을 넘지 않도록 캡 적용
-        // 원래 종료 시간으로부터 최대 12시간까지만 연장 가능
-        OffsetDateTime newEndAt = candidateEndAt;
-        if (newEndAt.isAfter(capEndAt)) {
-            newEndAt = capEndAt;
-        }
-        if (newEndAt.isAfter(hardCapEndAt)) {
-            newEndAt = hardCapEndAt;
+            if (a.prevHighestBidderId() != null && !a.prevHighestBidderId().equals(a.buyerId())) {
+                notificationPublisher.enqueue(
+                    NotificationPublishCommand.bidOutbid(a.prevHighestBidderId(), a.auctionId())
+                );
+            }
         }
 
-        if (!newEndAt.isAfter(endAt)) {
+        return new BidBatchResult(responses, rejectedAuctionIds);
+    }
+
+    // 트랜잭션 시작 ~ 커밋/롤백 완료 시간, 결과(commit/rollback)별 기록
+    private void recordTransaction(String path) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        long startNanos = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Timer.builder("auction.bid.tx")
+                    .tag("path", path)
+                    .tag("outcome", status == STATUS_COMMITTED ? "commit" : "rollback")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    // 자동 연장
+    private boolean tryAutoExtension(Auction auction, OffsetDateTime now) {
+        Optional<OffsetDateTime> newEndAt =
+            AuctionExtensionCalculator.nextEndAt(auction.getEndAt(), auction.getOriginalEndAt(), now);
+        if (newEndAt.isEmpty()) {
             return false;
         }
 
-        int newDurationHours = DurationCalculator.calculateHoursBetween(originalEndAt, newEndAt);
-        auction.extendEndTime(newEndAt, newDurationHours);
+        int newDurationHours = DurationCalculator.calculateHoursBetween(auction.getOriginalEndAt(), newEndAt.get());
+        auction.extendEndTime(newEndAt.get(), newDurationHours);
 
         return true;
     }
@@ -167,9 +294,6 @@ public class BidCommandService {
         int currentHighest = auction.getCurrentPrice();
         int minAcceptable = currentHighest + auction.getBidIncrement();
 
-        // 현재 최고 입찰자 ID 조회
-        UUID highestBidderId = bidRepository.findTopBidderIdByAuction(auction).orElse(null);
-
         return new BidCreateResponse(
                 bid.getBidId(),
                 auction.getAuctionId(),
@@ -178,7 +302,7 @@ public class BidCommandService {
                 minAcceptable,
                 auction.getEndAt(),
                 extensionApplied,
-                highestBidderId
+                auction.getHighestBidderId()
         );
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package kr.eolmago.service.auction;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.eolmago.domain.entity.auction.Bid;
 import kr.eolmago.dto.api.auction.request.BidCreateRequest;
 import kr.eolmago.dto.api.auction.response.BidCreateResponse;
@@ -8,6 +9,7 @@ import kr.eolmago.global.exception.BusinessException;
 import kr.eolmago.global.exception.ErrorCode;
 import kr.eolmago.repository.auction.BidRepository;
 import kr.eolmago.service.auction.stream.BidProcessingResult;
+import kr.eolmago.service.auction.stream.BidResultNotifier;
 import kr.eolmago.service.auction.stream.BidResultStore;
 import kr.eolmago.service.auction.stream.BidStreamProperties;
 import kr.eolmago.service.auction.stream.BidStreamSupport;
@@ -16,6 +18,7 @@ import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +27,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-
-import static kr.eolmago.service.auction.constants.AuctionConstants.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -37,9 +41,11 @@ public class BidService {
     private final StringRedisTemplate redisTemplate;
     private final BidStreamProperties props;
     private final BidResultStore bidResultStore;
+    private final BidResultNotifier bidResultNotifier;
+    private final ThreadPoolTaskExecutor bidResultExecutor;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
-    public BidCreateResponse createBid(UUID auctionId, BidCreateRequest request, UUID buyerId) {
+    public CompletableFuture<BidCreateResponse> createBid(UUID auctionId, BidCreateRequest request, UUID buyerId) {
 
         long idempotencyTtlMs = props.getIdempotencyTtlMs();
         long apiWaitTimeoutMs = props.getApiWaitTimeoutMs();
@@ -56,7 +62,7 @@ public class BidService {
         // Redis 결과가 있으면 즉시 반환
         BidProcessingResult cached = bidResultStore.get(resultKey);
         if (cached != null && !cached.isPending()) {
-            return resolveOrThrow(cached);
+            return CompletableFuture.completedFuture(resolveOrThrow(cached));
         }
 
         // 이미 저장된 요청이면 바로 반환
@@ -68,37 +74,86 @@ public class BidService {
                 throw new BusinessException(ErrorCode.BID_IDEMPOTENCY_CONFLICT);
             }
 
-            return buildBidCreateResponse(bid, false);
+            return CompletableFuture.completedFuture(buildBidCreateResponse(bid, false));
         }
 
-        // 결과키 PENDING
-        bidResultStore.putPendingIfAbsent(resultKey, Duration.ofMillis(idempotencyTtlMs));
+        // 스트림 경로 전체 소요 시간(발행 ~ 결과 수신), 멱등 재조회는 제외
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        // publishKey NX로 설정, 최초 1회만 Stream 발행
-        // 키가 없을 때만 set -> 중복 발행 방지
-        String publishKey = BidStreamSupport.publishKey(buyerId, requestId);
-        Boolean firstPublish = redisTemplate.opsForValue().setIfAbsent(
-                publishKey,
-                "1",
-                Duration.ofMillis(idempotencyTtlMs)
-        );
+        // 발행 전에 대기 등록, 컨슈머 처리 완료 시 notifier가 깨움
+        CompletableFuture<BidProcessingResult> waiter = bidResultNotifier.register(resultKey);
+
+        try {
+            // 결과키 PENDING
+            bidResultStore.putPendingIfAbsent(resultKey, Duration.ofMillis(idempotencyTtlMs));
+
+            // publishKey NX로 설정, 최초 1회만 Stream 발행
+            // 키가 없을 때만 set -> 중복 발행 방지
+            String publishKey = BidStreamSupport.publishKey(buyerId, requestId);
+            Boolean firstPublish = redisTemplate.opsForValue().setIfAbsent(
+                    publishKey,
+                    "1",
+                    Duration.ofMillis(idempotencyTtlMs)
+            );
 
-        if (Boolean.TRUE.equals(firstPublish)) {
-            publishToStream(auctionId, buyerId, amount, requestId);
+            if (Boolean.TRUE.equals(firstPublish)) {
+                publishToStream(auctionId, buyerId, amount, requestId);
+            } else {
+                // 재요청: 등록 이전에 이미 처리가 끝났을 수 있으므로 1회 확인
+                BidProcessingResult raced = bidResultStore.get(resultKey);
+                if (raced != null && !raced.isPending()) {
+                    bidResultNotifier.completeLocal(resultKey, raced);
+                }
+            }
+        } catch (RuntimeException e) {
+            bidResultNotifier.unregister(resultKey, waiter);
+            recordBid(sample, e);
+            throw e;
         }
 
-        // 결과키 대기(폴링)
-        long deadline = System.currentTimeMillis() + apiWaitTimeoutMs;
+        // 워커 스레드를 점유하지 않고 결과 대기
+        return waiter
+                .completeOnTimeout(null, apiWaitTimeoutMs, TimeUnit.MILLISECONDS)
+                .thenApplyAsync(result -> {
+                    if (result != null && !result.isPending()) {
+                        recordDelivery(result);
+                        return resolveOrThrow(result);
+                    }
+                    return recoverAfterTimeout(requestId, buyerId, amount);
+                }, bidResultExecutor)
+                .whenComplete((response, ex) -> {
+                    bidResultNotifier.unregister(resultKey, waiter);
+                    recordBid(sample, ex);
+                });
+    }
 
-        while (System.currentTimeMillis() < deadline) {
-            BidProcessingResult result = bidResultStore.get(resultKey);
-            if (result != null && !result.isPending()) {
-                return resolveOrThrow(result);
-            }
-            sleepSilently(RESULT_WAIT_POLL_MS);
+    private void recordBid(Timer.Sample sample, Throwable ex) {
+        sample.stop(Timer.builder("auction.bid.duration")
+                .tag("outcome", outcomeOf(ex))
+                .register(meterRegistry));
+    }
+
+    // 컨슈머 결과 확정 ~ API 스레드 재개
+    private void recordDelivery(BidProcessingResult result) {
+        if (result.completedAtMs() <= 0) return;
+        Timer.builder("auction.bid.result.delivery")
+                .tag("status", result.status())
+                .register(meterRegistry)
+                .record(Math.max(0, System.currentTimeMillis() - result.completedAtMs()), TimeUnit.MILLISECONDS);
+    }
+
+    // success / ErrorCode 이름 / system_error
+    private static String outcomeOf(Throwable ex) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+        if (cause == null) return "success";
+        if (cause instanceof BusinessException be && be.getErrorCode() != null) {
+            return be.getErrorCode().name();
         }
+        return "system_error";
+    }
 
-        // 타임아웃 발생 시 DB 멱등 조회로 결과 복구
+    // 타임아웃 발생 시 DB 멱등 조회로 결과 복구
+    private BidCreateResponse recoverAfterTimeout(String requestId, UUID buyerId, int amount) {
         Optional<Bid> afterTimeout = bidRepository.findByClientRequestIdAndBidderId(requestId, buyerId);
         if (afterTimeout.isPresent()) {
             Bid bid = afterTimeout.get();
@@ -112,8 +167,9 @@ public class BidService {
     }
 
     private void publishToStream(UUID auctionId, UUID buyerId, int amount, String requestId) {
-        // BidStreamProperties
-        String streamKey = props.getStreamKey();
+        // BidStreamProperties, 경매 ID 해시로 샤드 스트림 결정
+        int shard = BidStreamSupport.shardOf(auctionId, props.getShardCount());
+        String streamKey = BidStreamSupport.shardStreamKey(props.getStreamKey(), shard);
         long resultTtlMs = props.getResultTtlMs();
 
         Map<String, String> body = new HashMap<>();
@@ -124,7 +180,7 @@ public class BidService {
 
         /*
         * MapRecord<K, HK, HV>
-        * K: Stream Key 타입 - stream:bids
+        * K: Stream Key 타입 - stream:bids:{n}
         * HK: Hash Key(필드 이름) 타입 - auctionId
         * HV: Hash Value(필드 값) 타입 - 1000
          * */
@@ -132,14 +188,22 @@ public class BidService {
                 .in(streamKey)
                 .ofMap(body);
 
-        RecordId id = redisTemplate.opsForStream().add(record);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        RecordId id = null;
+        try {
+            id = redisTemplate.opsForStream().add(record);
+        } finally {
+            sample.stop(Timer.builder("auction.bid.stream.publish")
+                    .tag("outcome", id != null ? "ok" : "failed")
+                    .register(meterRegistry));
+        }
+
         if (id == null) {
             String resultKey = BidStreamSupport.resultKey(buyerId, requestId);
-            bidResultStore.put(
-                    resultKey,
-                    BidProcessingResult.error(ErrorCode.INTERNAL_SERVER_ERROR.name(), "Failed to publish bid stream"),
-                    Duration.ofMillis(resultTtlMs)
-            );
+            BidProcessingResult failed =
+                    BidProcessingResult.error(ErrorCode.INTERNAL_SERVER_ERROR.name(), "Failed to publish bid stream");
+            bidResultStore.put(resultKey, failed, Duration.ofMillis(resultTtlMs));
+            bidResultNotifier.completeLocal(resultKey, failed);
         }
     }
 
@@ -169,8 +233,6 @@ public class BidService {
         int currentHighest = auction.getCurrentPrice();
         int minAcceptable = currentHighest + auction.getBidIncrement();
 
-        UUID highestBidderId = bidRepository.findTopBidderIdByAuction(auction).orElse(null);
-
         return new BidCreateResponse(
                 bid.getBidId(),
                 auction.getAuctionId(),
@@ -179,15 +241,7 @@ public class BidService {
                 minAcceptable,
                 auction.getEndAt(),
                 extensionApplied,
-                highestBidderId
+                auction.getHighestBidderId()
         );
     }
-
-    private void sleepSilently(long ms) {
-        try {
-            Thread.sleep(ms);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
\ No newline at end of file
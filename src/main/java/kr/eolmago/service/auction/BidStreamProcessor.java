@@ -1,13 +1,23 @@
 package kr.eolmago.service.auction;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import kr.eolmago.dto.api.auction.response.BidCreateResponse;
 import kr.eolmago.global.exception.BusinessException;
 import kr.eolmago.global.exception.ErrorCode;
+import kr.eolmago.global.stream.DeadLetterStream;
+import kr.eolmago.global.stream.StreamPendingReclaimer;
+import kr.eolmago.service.auction.book.AcceptedBid;
+import kr.eolmago.service.auction.book.AuctionPriceBook;
+import kr.eolmago.service.auction.book.BidWriteBehind;
 import kr.eolmago.service.auction.stream.BidProcessingResult;
+import kr.eolmago.service.auction.stream.BidResultNotifier;
+import kr.eolmago.service.auction.stream.BidShardLeaseManager;
 import kr.eolmago.service.auction.stream.BidResultStore;
 import kr.eolmago.service.auction.stream.BidStreamProperties;
 import kr.eolmago.service.auction.stream.BidStreamSupport;
@@ -17,19 +27,37 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
@@ -41,15 +69,31 @@ public class BidStreamProcessor implements DisposableBean {
 
     private final BidCommandService bidCommandService;
     private final BidResultStore bidResultStore;
+    private final BidResultNotifier bidResultNotifier;
 
     private final BidStreamProperties props;
 
+    private final BidShardLeaseManager leaseManager;
+    private final MeterRegistry meterRegistry;
+    private final StreamPendingReclaimer pendingReclaimer;
+
+    private final AuctionPriceBook priceBook;
+    private final BidWriteBehind writeBehind;
+
     private ExecutorService executor;
+    private ScheduledExecutorService rebalancer;
     private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
 
+    // 현재 노드가 소유한 샤드별 구독
+    private final ConcurrentMap<Integer, OwnedShard> owned = new ConcurrentHashMap<>();
+
+    // 샤드별 PEL/스트림 길이 게이지 값(샤드당 1회 등록)
+    private final ConcurrentMap<Integer, ShardBacklog> backlogs = new ConcurrentHashMap<>();
+
     // BidStreamProperties
-    private String streamKey;
     private String group;
+    private String nodeId;
+    private int shardCount;
     private long resultTtlMs;
 
     @PostConstruct
@@ -57,27 +101,26 @@ public class BidStreamProcessor implements DisposableBean {
 
         if (!props.isConsumerEnabled()) return;
 
-        this.streamKey = props.getStreamKey();
         this.group = props.getGroup();
+        this.shardCount = props.getShardCount();
         this.resultTtlMs = props.getResultTtlMs();
-        String consumerName = props.getConsumerName();
         int batchSize = props.getBatchSize();
         long pollTimeoutMs = props.getPollTimeoutMs();
 
+        String consumerName = props.getConsumerName();
         if (consumerName == null || consumerName.isBlank()) {
             consumerName = "c-" + UUID.randomUUID().toString().substring(0, 8);
         }
+        this.nodeId = consumerName;
 
-        // consumer 1개 구성
-        executor = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "bid-stream-consumer");
+        // 샤드당 consumer 1개(스레드 1개)가 읽고 샤드 워커 1개가 처리 -> 샤드 내 순차, 샤드 간 병렬
+        AtomicInteger threadSeq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(shardCount, r -> {
+            Thread t = new Thread(r, "bid-stream-consumer-" + threadSeq.incrementAndGet());
             t.setDaemon(true);
             return t;
         });
 
-        // ConsumerGroup 생성
-        ensureConsumerGroup(streamKey, group);
-
         RedisConnectionFactory cf = redisTemplate.getConnectionFactory();
         if (cf == null) {
             throw new BusinessException(ErrorCode.INFRA_REDIS_CONNECTION_FACTORY_MISSING);
@@ -91,18 +134,263 @@ public class BidStreamProcessor implements DisposableBean {
                         .build();
 
         container = StreamMessageListenerContainer.create(cf, options);
+        container.start();
+
+        if (props.isPriceBookEnabled()) {
+            writeBehind.start(new WriteBehindListener());
+        }
+
+        Gauge.builder("auction.bid.stream.shards.owned", owned, Map::size)
+                .tag("node", nodeId)
+                .register(meterRegistry);
+
+        // 샤드 소유권 획득/갱신/재분배
+        rebalancer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bid-stream-rebalancer");
+            t.setDaemon(true);
+            return t;
+        });
+        rebalancer.scheduleWithFixedDelay(
+                this::rebalance,
+                0,
+                props.getShardRebalanceIntervalMs(),
+                TimeUnit.MILLISECONDS
+        );
 
-        container.receive(
-                Consumer.from(group, consumerName),
-                StreamOffset.create(streamKey, ReadOffset.lastConsumed()),
-                this::onMessage
+        // 소유 샤드의 PEL 회수(ACK 전에 죽은 컨슈머의 레코드)
+        rebalancer.scheduleWithFixedDelay(
+                this::reclaimPending,
+                props.getPendingReclaimIntervalMs(),
+                props.getPendingReclaimIntervalMs(),
+                TimeUnit.MILLISECONDS
         );
+    }
 
-        container.start();
+    // 활성 노드 수 기준 공정 몫만큼 샤드를 소유
+    private void rebalance() {
+        try {
+            priceBook.evictEnded(OffsetDateTime.now());
+
+            int nodes = leaseManager.heartbeat(nodeId);
+            int fairShare = (shardCount + nodes - 1) / nodes;
+
+            // 보유 샤드 리스 갱신, 잃었거나 구독이 죽었으면 정리
+            for (Integer shard : List.copyOf(owned.keySet())) {
+                if (!leaseManager.isHeld(shard)) {
+                    // 갱신이 밀려 펜싱으로 처리를 멈춘 샤드, 아직 내 리스면 반납해 다른 노드가 바로 이어받게 함
+                    log.warn("[BID_STREAM] shard lease expired locally. shard={}, node={}", shard, nodeId);
+                    stopShard(shard, true);
+                } else if (!leaseManager.renew(shard, nodeId)) {
+                    log.warn("[BID_STREAM] shard lease lost. shard={}, node={}", shard, nodeId);
+                    stopShard(shard, false);
+                } else if (!owned.get(shard).subscription().isActive()) {
+                    stopShard(shard, false);
+                    startShard(shard);
+                }
+            }
+
+            // 노드가 늘어나면 공정 몫 초과분 반납
+            while (owned.size() > fairShare) {
+                int shard = owned.keySet().stream().max(Integer::compare).orElseThrow();
+                stopShard(shard, true);
+            }
+
+            // 노드별로 시작 위치를 달리해 획득 경쟁 완화
+            int offset = Math.floorMod(nodeId.hashCode(), shardCount);
+            for (int i = 0; i < shardCount && owned.size() < fairShare; i++) {
+                int shard = (offset + i) % shardCount;
+                if (!owned.containsKey(shard) && leaseManager.tryAcquire(shard, nodeId)) {
+                    startShard(shard);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[BID_STREAM] rebalance failed. node={}", nodeId, e);
+        }
+    }
+
+    private void startShard(int shard) {
+        String shardKey = BidStreamSupport.shardStreamKey(props.getStreamKey(), shard);
+
+        // ConsumerGroup 생성
+        ensureConsumerGroup(shardKey, group);
+
+        // 이전 소유 노드가 반영한 입찰이 있을 수 있으므로 DB 기준으로 다시 적재
+        priceBook.evictShard(shard, shardCount);
+
+        StreamMessageListenerContainer.StreamReadRequest<String> request =
+                StreamMessageListenerContainer.StreamReadRequest
+                        .builder(StreamOffset.create(shardKey, ReadOffset.lastConsumed()))
+                        .consumer(Consumer.from(group, nodeId))
+                        .autoAcknowledge(false)
+                        .cancelOnError(t -> false)
+                        .build();
+
+        ShardMetrics metrics = new ShardMetrics(
+                Counter.builder("auction.bid.stream.processed")
+                        .tag("shard", String.valueOf(shard))
+                        .register(meterRegistry),
+                Timer.builder("auction.bid.stream.lag")
+                        .description("스트림 적재 시각부터 컨슈머 처리 시작까지")
+                        .tag("shard", String.valueOf(shard))
+                        .register(meterRegistry)
+        );
+
+        // 스트림 레코드와 PEL 회수 레코드를 같은 워커 스레드에서 처리(샤드 내 순서 유지)
+        ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "bid-shard-worker-" + shard);
+            t.setDaemon(true);
+            return t;
+        });
+
+        boolean useBook = props.isPriceBookEnabled();
+        Counter fenced = Counter.builder("auction.bid.stream.fenced")
+                .description("리스 만료 임박으로 처리하지 않고 PEL에 남긴 레코드")
+                .tag("shard", String.valueOf(shard))
+                .register(meterRegistry);
+        Subscription subscription = container.register(request, message -> {
+            // 리스가 넘어갔을 수 있으면 처리하지 않음(두 노드가 한 샤드를 동시에 처리하지 않도록)
+            if (!leaseManager.isHeld(shard)) {
+                fenced.increment();
+                return;
+            }
+            handOff(worker, message.getId(), () -> onMessage(metrics, message, useBook, false));
+        });
+        owned.put(shard, new OwnedShard(subscription, metrics, worker));
+
+        log.info("[BID_STREAM] shard acquired. shard={}, node={}", shard, nodeId);
+    }
+
+    // 처리 중인 배치가 끝날 때까지 기다린 뒤 리스 반납
+    private void stopShard(int shard, boolean release) {
+        OwnedShard ownedShard = owned.remove(shard);
+        if (ownedShard == null) return;
+
+        ownedShard.subscription().cancel();
+        awaitInactive(ownedShard.subscription());
+        awaitWorker(ownedShard.worker());
+
+        // 다음 소유 노드가 DB에서 장부를 재구성하기 전에 대기 중인 입찰 반영
+        writeBehind.flushNow();
+        priceBook.evictShard(shard, shardCount);
+        backlogOf(shard).clear();
+
+        if (release) {
+            leaseManager.release(shard, nodeId);
+        }
+        log.info("[BID_STREAM] shard stopped. shard={}, node={}, released={}", shard, nodeId, release);
+    }
+
+    private void awaitInactive(Subscription subscription) {
+        long deadline = System.currentTimeMillis() + props.getPollTimeoutMs() * 10;
+        while (subscription.isActive() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(props.getPollTimeoutMs());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 컨슈머 스레드는 워커에 넘긴 뒤 처리 완료까지 대기(읽기 속도 = 처리 속도)
+    private void handOff(ExecutorService worker, RecordId recordId, Runnable task) {
+        try {
+            worker.submit(task).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException | ExecutionException e) {
+            // ACK 없이 남겨 PEL 회수로 재처리
+            log.warn("[BID_STREAM] shard worker hand-off failed. id={}", recordId.getValue(), e);
+        }
+    }
+
+    // 구독 취소 후 워커에 남은 처리(회수 레코드 포함)가 끝날 때까지 대기
+    private void awaitWorker(ExecutorService worker) {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(props.getPollTimeoutMs() * 10, TimeUnit.MILLISECONDS)) {
+                log.warn("[BID_STREAM] shard worker did not terminate in time.");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 회수한 레코드는 해당 샤드 워커에 넘겨 스트림 레코드와 같은 경로(장부 -> 쓰기 지연)로 처리
+    private void reclaimPending() {
+        Duration minIdle = Duration.ofMillis(props.getPendingMinIdleMs());
+        boolean useBook = props.isPriceBookEnabled();
+
+        for (Map.Entry<Integer, OwnedShard> entry : owned.entrySet()) {
+            String shardKey = BidStreamSupport.shardStreamKey(props.getStreamKey(), entry.getKey());
+            try {
+                List<MapRecord<String, Object, Object>> records = pendingReclaimer.reclaim(
+                        shardKey,
+                        group,
+                        nodeId,
+                        minIdle,
+                        props.getMaxDeliveryCount(),
+                        props.getBatchSize(),
+                        DeadLetterStream.BID
+                );
+
+                if (!records.isEmpty() && leaseManager.isHeld(entry.getKey())) {
+                    OwnedShard shard = entry.getValue();
+                    List<MapRecord<String, String, String>> reclaimed = records.stream().map(this::toStringRecord).toList();
+                    shard.worker().execute(() ->
+                            reclaimed.forEach(message -> onMessage(shard.metrics(), message, useBook, true)));
+                }
+            } catch (Exception e) {
+                log.warn("[BID_STREAM] pending reclaim failed. stream={}", shardKey, e);
+            }
+
+            sampleBacklog(entry.getKey(), shardKey);
+        }
+    }
+
+    // 스크레이프마다 Redis를 조회하지 않도록 회수 주기에 XPENDING/XLEN 샘플링
+    private void sampleBacklog(int shard, String shardKey) {
+        try {
+            PendingMessagesSummary summary = redisTemplate.opsForStream().pending(shardKey, group);
+            Long length = redisTemplate.opsForStream().size(shardKey);
+
+            ShardBacklog backlog = backlogOf(shard);
+            backlog.pending().set(summary != null ? summary.getTotalPendingMessages() : 0);
+            backlog.length().set(length != null ? length : 0);
+        } catch (Exception e) {
+            log.debug("[BID_STREAM] backlog sample failed. stream={}", shardKey, e);
+        }
+    }
+
+    private ShardBacklog backlogOf(int shard) {
+        return backlogs.computeIfAbsent(shard, s -> {
+            ShardBacklog backlog = new ShardBacklog(new AtomicLong(), new AtomicLong());
+            Gauge.builder("auction.bid.stream.pending", backlog.pending(), AtomicLong::get)
+                    .description("샤드 컨슈머 그룹 PEL(미ACK) 레코드 수")
+                    .tag("shard", String.valueOf(s))
+                    .register(meterRegistry);
+            Gauge.builder("auction.bid.stream.length", backlog.length(), AtomicLong::get)
+                    .description("샤드 스트림 길이(XLEN)")
+                    .tag("shard", String.valueOf(s))
+                    .register(meterRegistry);
+            return backlog;
+        });
     }
 
-    // 결과키 저장 후 ACK
-    private void onMessage(MapRecord<String, String, String> message) {
+    private MapRecord<String, String, String> toStringRecord(MapRecord<String, Object, Object> record) {
+        Map<String, String> value = new HashMap<>();
+        record.getValue().forEach((k, v) -> value.put(String.valueOf(k), String.valueOf(v)));
+
+        return StreamRecords.newRecord()
+                .in(record.getStream())
+                .withId(record.getId())
+                .ofMap(value);
+    }
+
+    // 결과키 저장 후 ACK, 가격 장부 경로는 DB 반영 후 ACK
+    private void onMessage(ShardMetrics metrics, MapRecord<String, String, String> message, boolean useBook, boolean reclaimed) {
+        metrics.recordPickup(message);
+
         String recordId = message.getId().getValue();
         Map<String, String> v = message.getValue();
 
@@ -129,31 +417,41 @@ public class BidStreamProcessor implements DisposableBean {
             String resultKey = BidStreamSupport.resultKey(buyerId, requestId);
 
             try {
+                if (useBook && reclaimed) {
+                    // 쓰기 지연 큐에서 반영 대기 중이면 반영 후 ACK됨
+                    if (writeBehind.isInFlight(message.getId())) {
+                        return;
+                    }
+                    // 이미 반영된 요청은 장부에 다시 올리지 않고 기존 결과로 복구
+                    Optional<BidCreateResponse> processed = bidCommandService.findProcessedBid(buyerId, amount, requestId);
+                    if (processed.isPresent()) {
+                        publishResult(resultKey, BidProcessingResult.success(processed.get()));
+                        ack(message);
+                        return;
+                    }
+                }
+
+                if (useBook) {
+                    AcceptedBid accepted = priceBook.accept(auctionId, buyerId, amount, requestId);
+                    writeBehind.enqueue(new BidWriteBehind.PendingBid(accepted, message, resultKey));
+                    return;
+                }
+
                 BidCreateResponse response = bidCommandService.createBid(auctionId, buyerId, amount, requestId);
-                bidResultStore.put( // 결과키 저장
-                        resultKey,
-                        BidProcessingResult.success(response),
-                        Duration.ofMillis(resultTtlMs)
-                );
+                // 장부를 거치지 않고 반영된 입찰이므로 장부는 DB 기준으로 다시 적재
+                priceBook.evict(auctionId);
+                publishResult(resultKey, BidProcessingResult.success(response)); // 결과키 저장
 
             } catch (BusinessException be) {
                 ErrorCode code = be.getErrorCode();
                 String errorCode = (code != null ? code.name() : ErrorCode.INTERNAL_SERVER_ERROR.name());
 
-                bidResultStore.put(
-                        resultKey,
-                        BidProcessingResult.error(errorCode, null),
-                        Duration.ofMillis(resultTtlMs)
-                );
+                publishResult(resultKey, BidProcessingResult.error(errorCode, null));
 
             } catch (Exception e) {
                 // 시스템 예외 시 결과 저장 후 ACK
                 if (buyerId != null) {
-                    bidResultStore.put(
-                            resultKey,
-                            BidProcessingResult.error(ErrorCode.INTERNAL_SERVER_ERROR.name(), e.getMessage()),
-                            Duration.ofMillis(resultTtlMs)
-                    );
+                    publishResult(resultKey, BidProcessingResult.error(ErrorCode.INTERNAL_SERVER_ERROR.name(), e.getMessage()));
                 }
             }
         } catch (Exception parseOrOther) {
@@ -164,6 +462,53 @@ public class BidStreamProcessor implements DisposableBean {
         ack(message);
     }
 
+    // 장부 반영 실패 레코드는 건별 FOR UPDATE 경로로 재처리(clientRequestId 멱등)
+    private void processLegacy(BidWriteBehind.PendingBid pending) {
+        AcceptedBid bid = pending.bid();
+        try {
+            BidCreateResponse response = bidCommandService.createBid(bid.auctionId(), bid.buyerId(), bid.amount(), bid.requestId());
+            priceBook.evict(bid.auctionId());
+            publishResult(pending.resultKey(), BidProcessingResult.success(response));
+        } catch (BusinessException be) {
+            ErrorCode code = be.getErrorCode();
+            String errorCode = (code != null ? code.name() : ErrorCode.INTERNAL_SERVER_ERROR.name());
+            publishResult(pending.resultKey(), BidProcessingResult.error(errorCode, null));
+        } catch (Exception e) {
+            // ACK 없이 남겨 PEL 회수로 재시도
+            log.warn("[BID_STREAM] legacy retry failed. id={}", pending.message().getId().getValue(), e);
+            return;
+        }
+        ack(pending.message());
+    }
+
+    private class WriteBehindListener implements BidWriteBehind.FlushListener {
+
+        // 결과 저장(파이프라인) -> 대기자 알림 -> 스트림별 XACK 1회
+        @Override
+        public void onPersisted(List<BidWriteBehind.PendingBid> batch, List<BidCreateResponse> responses) {
+            Map<String, BidProcessingResult> results = new LinkedHashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                results.put(batch.get(i).resultKey(), BidProcessingResult.success(responses.get(i)));
+            }
+
+            results.values().forEach(BidStreamProcessor.this::countResult);
+            try {
+                bidResultStore.putAll(results, Duration.ofMillis(resultTtlMs));
+                bidResultNotifier.notifyCompletedAll(results);
+            } catch (Exception e) {
+                // 대기 측은 타임아웃 후 DB 멱등 조회로 복구
+                log.warn("[BID_STREAM] batch result publish failed. size={}", results.size(), e);
+            }
+
+            ackAll(batch.stream().map(BidWriteBehind.PendingBid::message).toList());
+        }
+
+        @Override
+        public void onRejected(List<BidWriteBehind.PendingBid> rejected) {
+            rejected.forEach(BidStreamProcessor.this::processLegacy);
+        }
+    }
+
     // 시스템 에러 후 ACK
     private void writeSystemErrorAndAck(String recordId, String buyerIdStr, String requestId, String msg, MapRecord<String, String, String> message) {
         try {
@@ -171,11 +516,7 @@ public class BidStreamProcessor implements DisposableBean {
                 UUID buyerId = UUID.fromString(buyerIdStr);
                 String resultKey = BidStreamSupport.resultKey(buyerId, requestId);
 
-                bidResultStore.put(
-                        resultKey,
-                        BidProcessingResult.error(ErrorCode.INTERNAL_SERVER_ERROR.name(), msg),
-                        Duration.ofMillis(resultTtlMs)
-                );
+                publishResult(resultKey, BidProcessingResult.error(ErrorCode.INTERNAL_SERVER_ERROR.name(), msg));
             }
         } catch (Exception ignored) {
         } finally {
@@ -183,9 +524,24 @@ public class BidStreamProcessor implements DisposableBean {
         }
     }
 
+    // 결과키 저장 후 대기 중인 API 요청에 알림
+    private void publishResult(String resultKey, BidProcessingResult result) {
+        countResult(result);
+        bidResultStore.put(resultKey, result, Duration.ofMillis(resultTtlMs));
+        bidResultNotifier.notifyCompleted(resultKey, result);
+    }
+
+    // 처리 결과별 건수(success / ErrorCode 이름)
+    private void countResult(BidProcessingResult result) {
+        meterRegistry.counter(
+                "auction.bid.stream.result",
+                "outcome", result.isSuccess() ? "success" : String.valueOf(result.errorCode())
+        ).increment();
+    }
+
     private void ack(MapRecord<String, String, String> message) {
         try {
-            Long acked = redisTemplate.opsForStream().acknowledge(streamKey, group, message.getId());
+            Long acked = redisTemplate.opsForStream().acknowledge(message.getStream(), group, message.getId());
             if (acked == null || acked == 0) {
                 log.debug("[BID_STREAM] ack returned 0. id={}", message.getId().getValue());
             }
@@ -194,6 +550,21 @@ public class BidStreamProcessor implements DisposableBean {
         }
     }
 
+    private void ackAll(List<MapRecord<String, String, String>> messages) {
+        Map<String, List<RecordId>> idsByStream = new HashMap<>();
+        for (MapRecord<String, String, String> message : messages) {
+            idsByStream.computeIfAbsent(message.getStream(), k -> new ArrayList<>()).add(message.getId());
+        }
+
+        idsByStream.forEach((stream, ids) -> {
+            try {
+                redisTemplate.opsForStream().acknowledge(stream, group, ids.toArray(RecordId[]::new));
+            } catch (Exception e) {
+                log.warn("[BID_STREAM] ack failed. stream={}, size={}", stream, ids.size(), e);
+            }
+        });
+    }
+
     // XGROUP CREATE <stream> <group> $ MKSTREAM
     // Consumer Group 생성
     private void ensureConsumerGroup(String stream, String group) {
@@ -237,6 +608,27 @@ public class BidStreamProcessor implements DisposableBean {
     @PreDestroy
     @Override
     public void destroy() {
+        try {
+            if (rebalancer != null) {
+                rebalancer.shutdownNow();
+            }
+        } catch (Exception ignored) {}
+
+
+        // 다른 노드가 즉시 이어받도록 리스 반납
+        try {
+            for (Integer shard : List.copyOf(owned.keySet())) {
+                stopShard(shard, true);
+            }
+            if (nodeId != null) {
+                leaseManager.leave(nodeId);
+            }
+        } catch (Exception ignored) {}
+
+        try {
+            writeBehind.stop();
+        } catch (Exception ignored) {}
+
         try {
             if (container != null) {
                 container.stop();
@@ -249,4 +641,28 @@ public class BidStreamProcessor implements DisposableBean {
             }
         } catch (Exception ignored) {}
     }
-}
\ No newline at end of file
+
+    private record OwnedShard(Subscription subscription, ShardMetrics metrics, ExecutorService worker) {}
+
+    private record ShardBacklog(AtomicLong pending, AtomicLong length) {
+
+        // 소유권을 잃은 샤드는 다른 노드가 보고
+        void clear() {
+            pending.set(0);
+            length.set(0);
+        }
+    }
+
+    // 샤드별 처리량 / 적재~처리 지연
+    private record ShardMetrics(Counter processed, Timer lag) {
+
+        // 레코드 ID의 타임스탬프(적재 시각) 기준 대기 시간
+        void recordPickup(MapRecord<String, String, String> message) {
+            processed.increment();
+            Long createdAt = message.getId().getTimestamp();
+            if (createdAt != null) {
+                lag.record(Math.max(0, System.currentTimeMillis() - createdAt), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package kr.eolmago.service.auction.book;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 가격 장부에서 검증/반영이 끝나고 DB 반영을 기다리는 입찰
+ */
+public record AcceptedBid(
+        UUID auctionId,
+        UUID buyerId,
+        int amount,
+        String requestId,
+        UUID prevHighestBidderId,
+        int minAcceptableAmount,
+        OffsetDateTime endAt,
+        boolean extensionApplied,
+        int durationHours,
+        int bidCount
+) {
+}
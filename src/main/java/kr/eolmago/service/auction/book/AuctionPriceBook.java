@@ -0,0 +1,76 @@
+package kr.eolmago.service.auction.book;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.eolmago.service.auction.BidCommandService;
+import kr.eolmago.service.auction.event.AuctionClosedEvent;
+import kr.eolmago.service.auction.stream.BidStreamSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 샤드 컨슈머가 소유하는 LIVE 경매 가격 장부
+ * - 입찰 검증/자동 연장 판단을 행 락 없이 메모리에서 수행
+ * - 미스 시 auctions + bids 테이블에서 재구성, 샤드 소유권이 바뀌면 해당 샤드 분량을 비움
+ * - 최종 정합성은 BidCommandService.persistAcceptedBids의 조건부 UPDATE가 보장
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionPriceBook {
+
+    // 종료 후 이 시간이 지나면 장부에서 제거
+    private static final long ENDED_RETENTION_SECONDS = 600;
+
+    private final BidCommandService bidCommandService;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<UUID, AuctionPriceState> states = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("auction.bid.price_book.size", states, Map::size)
+                .register(meterRegistry);
+    }
+
+    public AcceptedBid accept(UUID auctionId, UUID buyerId, int amount, String requestId) {
+        AuctionPriceState state = states.get(auctionId);
+        if (state == null) {
+            // DB 조회는 맵 연산 밖에서, 동시에 적재됐으면 먼저 올라간 상태 사용
+            AuctionPriceState loaded = bidCommandService.loadPriceState(auctionId);
+            state = states.putIfAbsent(auctionId, loaded);
+            if (state == null) {
+                state = loaded;
+            }
+        }
+        return state.accept(buyerId, amount, requestId, OffsetDateTime.now());
+    }
+
+    // 마감/취소가 커밋된 경매는 즉시 제거(다른 노드 장부는 종료 시각 검사로 거절)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionClosed(AuctionClosedEvent event) {
+        evict(event.auctionId());
+    }
+
+    public void evict(UUID auctionId) {
+        states.remove(auctionId);
+    }
+
+    // 샤드 획득/반납 시 해당 샤드 경매는 DB 기준으로 다시 적재
+    public void evictShard(int shard, int shardCount) {
+        states.keySet().removeIf(auctionId -> BidStreamSupport.shardOf(auctionId, shardCount) == shard);
+    }
+
+    public void evictEnded(OffsetDateTime now) {
+        OffsetDateTime threshold = now.minusSeconds(ENDED_RETENTION_SECONDS);
+        states.values().removeIf(state -> state.getEndAt() != null && state.getEndAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,100 @@
+package kr.eolmago.service.auction.book;
+
+import kr.eolmago.domain.entity.auction.Auction;
+import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
+import kr.eolmago.global.exception.BusinessException;
+import kr.eolmago.global.exception.ErrorCode;
+import kr.eolmago.global.util.AuctionExtensionCalculator;
+import kr.eolmago.global.util.DurationCalculator;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static kr.eolmago.service.auction.constants.AuctionConstants.MAX_BID_AMOUNT;
+
+/**
+ * LIVE 경매 1건의 메모리 가격 상태
+ * - 샤드 소유 노드의 샤드 워커만 변경, 장부 교체 시점의 경합은 인스턴스 락으로 보호
+ */
+@Getter
+public class AuctionPriceState {
+
+    private final UUID auctionId;
+    private final UUID sellerId;
+    private final int bidIncrement;
+    private final OffsetDateTime originalEndAt;
+
+    private int currentPrice;
+    private int bidCount;
+    private UUID highestBidderId;
+    private volatile OffsetDateTime endAt;
+    private int durationHours;
+
+    private AuctionPriceState(Auction auction) {
+        this.auctionId = auction.getAuctionId();
+        this.sellerId = auction.getSeller().getUserId();
+        this.bidIncrement = auction.getBidIncrement();
+        this.originalEndAt = auction.getOriginalEndAt();
+        this.currentPrice = auction.getCurrentPrice();
+        this.bidCount = auction.getBidCount();
+        this.highestBidderId = auction.getHighestBidderId();
+        this.endAt = auction.getEndAt();
+        this.durationHours = auction.getDurationHours();
+    }
+
+    // LIVE 경매만 장부에 올림
+    public static AuctionPriceState of(Auction auction) {
+        if (auction.getStatus() != AuctionStatus.LIVE) {
+            throw new BusinessException(ErrorCode.AUCTION_NOT_LIVE);
+        }
+        return new AuctionPriceState(auction);
+    }
+
+    // BidCommandService.createBid와 동일한 검증 + 종료 시각 검사 후 상태 반영
+    public synchronized AcceptedBid accept(UUID buyerId, int amount, String requestId, OffsetDateTime now) {
+        // 종료 시각이 지났으면 마감 처리 전이어도 거절(DB 반영 시 조건부 UPDATE 실패 방지)
+        if (endAt != null && !now.isBefore(endAt)) {
+            throw new BusinessException(ErrorCode.AUCTION_NOT_LIVE);
+        }
+
+        if (sellerId.equals(buyerId)) {
+            throw new BusinessException(ErrorCode.SELLER_CANNOT_BID);
+        }
+
+        int minAcceptable = currentPrice + bidIncrement;
+        if (amount < minAcceptable) throw new BusinessException(ErrorCode.BID_INVALID_AMOUNT);
+        if (amount > MAX_BID_AMOUNT) throw new BusinessException(ErrorCode.BID_AMOUNT_EXCEEDS_LIMIT);
+
+        int diff = amount - currentPrice;
+        if (bidIncrement > 0 && diff % bidIncrement != 0) {
+            throw new BusinessException(ErrorCode.BID_INVALID_INCREMENT);
+        }
+
+        UUID prevHighestBidderId = highestBidderId;
+
+        currentPrice = amount;
+        bidCount++;
+        highestBidderId = buyerId;
+
+        Optional<OffsetDateTime> extendedEndAt = AuctionExtensionCalculator.nextEndAt(endAt, originalEndAt, now);
+        extendedEndAt.ifPresent(newEndAt -> {
+            endAt = newEndAt;
+            durationHours = DurationCalculator.calculateHoursBetween(originalEndAt, newEndAt);
+        });
+
+        return new AcceptedBid(
+                auctionId,
+                buyerId,
+                amount,
+                requestId,
+                prevHighestBidderId,
+                currentPrice + bidIncrement,
+                endAt,
+                extendedEndAt.isPresent(),
+                durationHours,
+                bidCount
+        );
+    }
+}
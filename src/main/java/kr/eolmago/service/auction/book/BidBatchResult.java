@@ -0,0 +1,18 @@
+package kr.eolmago.service.auction.book;
+
+import kr.eolmago.dto.api.auction.response.BidCreateResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 수락된 입찰 일괄 반영 결과
+ * - responses: 반영된 입찰의 응답, 입력 순서 유지(거절된 경매의 입찰은 제외)
+ * - rejectedAuctionIds: 조건부 UPDATE가 0건이라 입찰을 넣지 않은 경매(종료/역전)
+ */
+public record BidBatchResult(
+        List<BidCreateResponse> responses,
+        Set<UUID> rejectedAuctionIds
+) {
+}
@@ -0,0 +1,165 @@
+package kr.eolmago.service.auction.book;
+
+import jakarta.annotation.PreDestroy;
+import kr.eolmago.dto.api.auction.response.BidCreateResponse;
+import kr.eolmago.service.auction.BidCommandService;
+import kr.eolmago.service.auction.stream.BidStreamProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 장부에서 수락된 입찰을 모아 DB에 일괄 반영
+ * - 스트림 레코드는 DB 반영이 끝난 뒤에 ACK(유실 시 PEL 회수로 재처리)
+ * - 반영 실패 경매는 해당 경매 장부를 비우고 그 경매 입찰만 리스너에 넘겨 건별 재처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidWriteBehind {
+
+    private static final long FLUSH_NOW_TIMEOUT_MS = 5_000L;
+
+    private final BidCommandService bidCommandService;
+    private final AuctionPriceBook priceBook;
+    private final BidStreamProperties props;
+
+    private final BlockingQueue<PendingBid> queue = new LinkedBlockingQueue<>();
+
+    // 큐에 들어와 아직 리스너 처리가 끝나지 않은 레코드 ID(PEL 회수 시 중복 처리 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private volatile ScheduledExecutorService flusher;
+    private volatile FlushListener listener;
+
+    public record PendingBid(AcceptedBid bid, MapRecord<String, String, String> message, String resultKey) {}
+
+    public interface FlushListener {
+
+        // responses는 batch와 같은 순서
+        void onPersisted(List<PendingBid> batch, List<BidCreateResponse> responses);
+
+        void onRejected(List<PendingBid> rejected);
+    }
+
+    public synchronized void start(FlushListener listener) {
+        if (flusher != null) return;
+
+        this.listener = listener;
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bid-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(
+                this::drain,
+                props.getWriteBehindFlushIntervalMs(),
+                props.getWriteBehindFlushIntervalMs(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public void enqueue(PendingBid pending) {
+        inFlight.add(pending.message().getId().getValue());
+        queue.add(pending);
+    }
+
+    public boolean isInFlight(RecordId recordId) {
+        return inFlight.contains(recordId.getValue());
+    }
+
+    // 샤드 반납 전 호출, 그 시점까지 쌓인 입찰이 모두 반영될 때까지 대기
+    public void flushNow() {
+        ScheduledExecutorService current = flusher;
+        if (current == null || current.isShutdown()) {
+            drain();
+            return;
+        }
+
+        try {
+            current.submit(this::drain).get(FLUSH_NOW_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("[BID_WRITE_BEHIND] flushNow failed. queued={}", queue.size(), e);
+        }
+    }
+
+    // 단일 스레드에서만 실행되어 배치 간 순서 보장
+    private void drain() {
+        List<PendingBid> batch = new ArrayList<>(props.getWriteBehindMaxBatch());
+        try {
+            while (queue.drainTo(batch, props.getWriteBehindMaxBatch()) > 0) {
+                flush(batch);
+                batch.clear();
+            }
+        } catch (Exception e) {
+            log.error("[BID_WRITE_BEHIND] drain failed. size={}", batch.size(), e);
+        }
+    }
+
+    private void flush(List<PendingBid> batch) {
+        try {
+            persist(batch);
+        } finally {
+            batch.forEach(pending -> inFlight.remove(pending.message().getId().getValue()));
+        }
+    }
+
+    private void persist(List<PendingBid> batch) {
+        List<AcceptedBid> accepted = batch.stream().map(PendingBid::bid).toList();
+
+        BidBatchResult result;
+        try {
+            result = bidCommandService.persistAcceptedBids(accepted);
+        } catch (Exception e) {
+            log.warn("[BID_WRITE_BEHIND] batch rejected. size={}", batch.size(), e);
+            accepted.forEach(a -> priceBook.evict(a.auctionId()));
+            listener.onRejected(List.copyOf(batch));
+            return;
+        }
+
+        // 조건부 UPDATE가 실패한 경매의 입찰만 건별 재처리
+        List<PendingBid> persisted = new ArrayList<>(batch.size());
+        List<PendingBid> rejected = new ArrayList<>();
+        for (PendingBid pending : batch) {
+            (result.rejectedAuctionIds().contains(pending.bid().auctionId()) ? rejected : persisted).add(pending);
+        }
+
+        if (!persisted.isEmpty()) {
+            listener.onPersisted(persisted, result.responses());
+        }
+        if (!rejected.isEmpty()) {
+            log.warn("[BID_WRITE_BEHIND] auctions rejected. auctions={}, bids={}",
+                    result.rejectedAuctionIds().size(), rejected.size());
+            result.rejectedAuctionIds().forEach(priceBook::evict);
+            listener.onRejected(rejected);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (flusher == null) return;
+
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 입찰 반영
+        drain();
+    }
+}
@@ -0,0 +1,129 @@
+package kr.eolmago.service.auction.close;
+
+import kr.eolmago.dto.view.auction.AuctionEndAtView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 경매 마감 큐 (ZSET, score = endAt epoch ms)
+ * - 모든 노드가 등록/연장, 리더 노드만 만료 항목을 꺼내 마감
+ * - endAt은 연장으로만 늘어나므로 ZADD GT로 늦게 도착한 이전 값이 덮어쓰지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionCloseQueue {
+
+    public static final String QUEUE_KEY = "auction:close:queue";
+    public static final String LEADER_KEY = "auction:close:leader";
+
+    // 처리 시점의 score 이하일 때만 제거(그 사이 연장됐으면 유지)
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "local s = redis.call('zscore', KEYS[1], ARGV[1]) "
+                    + "if s and tonumber(s) <= tonumber(ARGV[2]) then "
+                    + "return redis.call('zrem', KEYS[1], ARGV[1]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) "
+                    + "else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void schedule(UUID auctionId, OffsetDateTime endAt) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zAdd(
+                bytes(QUEUE_KEY),
+                endAt.toInstant().toEpochMilli(),
+                bytes(auctionId.toString()),
+                RedisZSetCommands.ZAddArgs.empty().gt()
+        ));
+    }
+
+    // 부트스트랩용 일괄 등록(파이프라인)
+    public void scheduleAll(List<AuctionEndAtView> views) {
+        if (views.isEmpty()) return;
+
+        byte[] key = bytes(QUEUE_KEY);
+        RedisZSetCommands.ZAddArgs args = RedisZSetCommands.ZAddArgs.empty().gt();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (AuctionEndAtView v : views) {
+                if (v.auctionId() == null || v.endAt() == null) continue;
+                connection.zSetCommands().zAdd(key, v.endAt().toInstant().toEpochMilli(), bytes(v.auctionId().toString()), args);
+            }
+            return null;
+        });
+    }
+
+    // maxScore 이하(곧 마감될) 항목 조회
+    public List<ZSetOperations.TypedTuple<String>> peekUntil(long maxScoreMs, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(QUEUE_KEY, Double.NEGATIVE_INFINITY, maxScoreMs, 0, limit);
+        return tuples == null ? List.of() : new ArrayList<>(tuples);
+    }
+
+    public Double scoreOf(UUID auctionId) {
+        return redisTemplate.opsForZSet().score(QUEUE_KEY, auctionId.toString());
+    }
+
+    public boolean complete(UUID auctionId, long processedScoreMs) {
+        Long removed = redisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(QUEUE_KEY),
+                auctionId.toString(),
+                String.valueOf(processedScoreMs)
+        );
+        return removed != null && removed == 1L;
+    }
+
+    // 마감 실패 시 재시도 시각으로 미룸(이미 더 늦은 score면 유지)
+    public void retryAt(UUID auctionId, long retryAtMs) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zAdd(
+                bytes(QUEUE_KEY),
+                retryAtMs,
+                bytes(auctionId.toString()),
+                RedisZSetCommands.ZAddArgs.empty().xx().gt()
+        ));
+    }
+
+    public boolean tryAcquireLeader(String nodeId, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEADER_KEY, nodeId, ttl));
+    }
+
+    public boolean renewLeader(String nodeId, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEADER_KEY), nodeId, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void releaseLeader(String nodeId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), nodeId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+package kr.eolmago.service.auction.close;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 가까운 마감만 들고 있는 로컬 해시 타이머 휠
+ * - 틱 단위 슬롯에 마감 시각을 배치하고, 한 바퀴를 넘는 마감은 남은 회전 수로 관리
+ * - 먼 마감은 Redis 마감 큐(ZSET)가 상위 단계 역할, 리더 노드가 주기적으로 가까운 구간만 내려받음
+ * - 같은 경매는 마감 시각이 바뀔 때만 다시 등록
+ */
+@Slf4j
+public class AuctionCloseTimerWheel {
+
+    private final long tickMs;
+    private final int mask;
+    private final Queue<Entry>[] slots;
+    private final BiConsumer<UUID, Long> onExpire;
+
+    // 경매별 등록된 마감 시각(중복 등록 방지)
+    private final Map<UUID, Long> deadlines = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService ticker;
+    private final long startMs;
+    private volatile long currentTick;
+
+    private record Entry(UUID auctionId, long deadlineMs, long tick) {}
+
+    @SuppressWarnings("unchecked")
+    public AuctionCloseTimerWheel(long tickMs, int wheelSize, BiConsumer<UUID, Long> onExpire) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.slots = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.onExpire = onExpire;
+        this.startMs = System.currentTimeMillis();
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "auction-close-wheel");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 마감 시각이 같으면 무시, 이미 지났으면 다음 틱에 만료
+    public synchronized void add(UUID auctionId, long deadlineMs) {
+        Long prev = deadlines.put(auctionId, deadlineMs);
+        if (prev != null && prev == deadlineMs) {
+            return;
+        }
+
+        long tick = Math.max((deadlineMs - startMs + tickMs - 1) / tickMs, currentTick + 1);
+        slots[(int) (tick & mask)].add(new Entry(auctionId, deadlineMs, tick));
+    }
+
+    // 만료 처리가 끝난 경매 해제, 이후 같은 마감 시각으로 다시 등록 가능
+    public void release(UUID auctionId, long deadlineMs) {
+        deadlines.remove(auctionId, deadlineMs);
+    }
+
+    public void clear() {
+        deadlines.clear();
+        for (Queue<Entry> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    private synchronized void advance() {
+        try {
+            long targetTick = (System.currentTimeMillis() - startMs) / tickMs;
+            // 틱이 밀렸으면 지나간 슬롯까지 모두 처리
+            while (currentTick < targetTick) {
+                currentTick++;
+                expireSlot(currentTick);
+            }
+        } catch (Exception e) {
+            log.error("[AUC_CLOSE_WHEEL] tick failed. tick={}", currentTick, e);
+        }
+    }
+
+    private void expireSlot(long tick) {
+        Iterator<Entry> it = slots[(int) (tick & mask)].iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.tick() > tick) {
+                continue; // 다음 회전
+            }
+            it.remove();
+
+            // 이후 다른 마감 시각으로 재등록된 항목은 건너뜀
+            Long current = deadlines.get(entry.auctionId());
+            if (current == null || current != entry.deadlineMs()) {
+                continue;
+            }
+            onExpire.accept(entry.auctionId(), entry.deadlineMs());
+        }
+    }
+
+    public void shutdown() {
+        ticker.shutdownNow();
+        clear();
+    }
+}
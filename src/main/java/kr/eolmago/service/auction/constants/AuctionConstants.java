@@ -13,7 +13,19 @@ public final class AuctionConstants {
     // 입찰
     public static final int MAX_BID_AMOUNT = 10_000_000; // 입찰 금액 상한
     public static final int SWEEP_PAGE_SIZE = 500;
-    public static final long RESULT_WAIT_POLL_MS = 50L;
+
+    // 경매 마감 큐
+    public static final long CLOSE_WHEEL_TICK_MS = 100;           // 타이머 휠 틱
+    public static final int CLOSE_WHEEL_SIZE = 512;                // 휠 슬롯 수(2의 거듭제곱)
+    public static final long CLOSE_PREFETCH_INTERVAL_MS = 1_000;   // 리더 갱신 + 큐 조회 주기
+    public static final long CLOSE_PREFETCH_HORIZON_MS = 5_000;    // 휠로 내려받는 마감 구간
+    public static final int CLOSE_PREFETCH_LIMIT = 1_000;
+    public static final long CLOSE_LEADER_TTL_MS = 10_000;
+    public static final long CLOSE_RETRY_DELAY_MS = 5_000;         // 마감 실패 시 재시도 지연
+
+    // 상세 페이지 실시간 가격
+    public static final String TOPIC_AUCTION_PREFIX = "/topic/auctions.";
+    public static final long LIVE_BROADCAST_INTERVAL_MS = 200;     // 경매별 최대 초당 5회
 
     // ==== 검색 ====
     // Trigram 유사도 임계값
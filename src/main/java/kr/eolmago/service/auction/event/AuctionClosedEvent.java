@@ -0,0 +1,8 @@
+package kr.eolmago.service.auction.event;
+
+import java.util.UUID;
+
+public record AuctionClosedEvent(
+        UUID auctionId
+) {
+}
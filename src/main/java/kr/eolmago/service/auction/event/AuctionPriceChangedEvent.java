@@ -0,0 +1,14 @@
+package kr.eolmago.service.auction.event;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record AuctionPriceChangedEvent(
+        UUID auctionId,
+        int currentPrice,
+        int bidCount,
+        OffsetDateTime endAt,
+        boolean extensionApplied,
+        UUID highestBidderId
+) {
+}
@@ -0,0 +1,130 @@
+package kr.eolmago.service.auction.live;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.eolmago.dto.api.auction.response.AuctionLiveUpdateResponse;
+import kr.eolmago.global.websocket.ClusterTopicRelay;
+import kr.eolmago.service.auction.event.AuctionEndAtChangedEvent;
+import kr.eolmago.service.auction.event.AuctionPriceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static kr.eolmago.service.auction.constants.AuctionConstants.*;
+
+/**
+ * 경매 상세 실시간 가격/연장 브로드캐스트 (/topic/auctions.{id})
+ * - 커밋된 입찰/연장만 반영, 경매별로 모아 LIVE_BROADCAST_INTERVAL_MS마다 최신 상태 1건만 전송
+ * - 전송은 공용 스케줄러(경매 마감)와 분리된 전용 스레드에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionLiveBroadcaster {
+
+    private final ClusterTopicRelay topicRelay;
+
+    private final Map<UUID, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService broadcaster;
+
+    @PostConstruct
+    public void start() {
+        broadcaster = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "auction-live-broadcaster");
+            t.setDaemon(true);
+            return t;
+        });
+        broadcaster.scheduleAtFixedRate(this::flush, LIVE_BROADCAST_INTERVAL_MS, LIVE_BROADCAST_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (broadcaster != null) {
+            broadcaster.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        if (event == null || event.auctionId() == null) return;
+
+        pending.compute(event.auctionId(), (id, prev) -> {
+            PendingUpdate update = prev != null ? prev : new PendingUpdate();
+            update.mergePrice(event);
+            return update;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEndAtChanged(AuctionEndAtChangedEvent event) {
+        if (event == null || event.auctionId() == null || event.endAt() == null) return;
+
+        pending.compute(event.auctionId(), (id, prev) -> {
+            PendingUpdate update = prev != null ? prev : new PendingUpdate();
+            update.mergeEndAt(event.endAt());
+            return update;
+        });
+    }
+
+    // 예외는 경매 단위로 잡아 주기 실행이 멈추지 않도록 함
+    private void flush() {
+        for (UUID auctionId : pending.keySet()) {
+            PendingUpdate update = pending.remove(auctionId);
+            if (update == null) continue;
+
+            try {
+                topicRelay.send(TOPIC_AUCTION_PREFIX + auctionId, toResponse(auctionId, update));
+            } catch (Exception e) {
+                log.warn("[AUC_LIVE] broadcast failed. auctionId={}, err={}", auctionId, e.toString());
+            }
+        }
+    }
+
+    private AuctionLiveUpdateResponse toResponse(UUID auctionId, PendingUpdate update) {
+        return new AuctionLiveUpdateResponse(
+                auctionId,
+                update.currentPrice,
+                update.bidCount,
+                update.endAt,
+                update.extensionApplied,
+                update.highestBidderId
+        );
+    }
+
+    // compute 안에서만 수정
+    private static final class PendingUpdate {
+        private Integer currentPrice;
+        private Integer bidCount;
+        private OffsetDateTime endAt;
+        private boolean extensionApplied;
+        private UUID highestBidderId;
+
+        private void mergePrice(AuctionPriceChangedEvent e) {
+            // 배치 커밋 순서가 뒤바뀌어도 더 높은 가격이 최신
+            if (currentPrice == null || e.currentPrice() >= currentPrice) {
+                currentPrice = e.currentPrice();
+                highestBidderId = e.highestBidderId();
+            }
+            bidCount = bidCount == null ? e.bidCount() : Math.max(bidCount, e.bidCount());
+            extensionApplied |= e.extensionApplied();
+            mergeEndAt(e.endAt());
+        }
+
+        private void mergeEndAt(OffsetDateTime newEndAt) {
+            if (newEndAt != null && (endAt == null || newEndAt.isAfter(endAt))) {
+                endAt = newEndAt;
+            }
+        }
+    }
+}
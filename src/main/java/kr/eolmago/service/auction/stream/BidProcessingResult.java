@@ -2,25 +2,27 @@ package kr.eolmago.service.auction.stream;
 
 import kr.eolmago.dto.api.auction.response.BidCreateResponse;
 
+// completedAtMs: 컨슈머가 결과를 확정한 시각(결과 전달 지연 측정용, PENDING은 0)
 public record BidProcessingResult(
         String status,
         BidCreateResponse response,
         String errorCode,
-        String errorMessage
+        String errorMessage,
+        long completedAtMs
 ) {
     public static BidProcessingResult pending() {
-        return new BidProcessingResult("PENDING", null, null, null);
+        return new BidProcessingResult("PENDING", null, null, null, 0L);
     }
 
     public static BidProcessingResult success(BidCreateResponse resp) {
-        return new BidProcessingResult("SUCCESS", resp, null, null);
+        return new BidProcessingResult("SUCCESS", resp, null, null, System.currentTimeMillis());
     }
 
     public static BidProcessingResult error(String code, String message) {
-        return new BidProcessingResult("ERROR", null, code, message);
+        return new BidProcessingResult("ERROR", null, code, message, System.currentTimeMillis());
     }
 
     public boolean isPending() { return "PENDING".equals(status); }
     public boolean isSuccess() { return "SUCCESS".equals(status); }
     public boolean isError() { return "ERROR".equals(status); }
-}
\ No newline at end of file
+}
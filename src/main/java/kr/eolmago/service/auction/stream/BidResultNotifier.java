@@ -0,0 +1,111 @@
+package kr.eolmago.service.auction.stream;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 입찰 결과 대기 레지스트리
+ * - API 요청은 resultKey로 future를 등록하고 폴링 없이 대기
+ * - 같은 노드의 컨슈머가 처리하면 직접 완료, 다른 노드가 처리하면 Pub/Sub 알림으로 완료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidResultNotifier implements MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final BidResultStore bidResultStore;
+    private final BidStreamProperties props;
+
+    private final ConcurrentMap<String, CompletableFuture<BidProcessingResult>> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(props.getResultChannel()));
+    }
+
+    // 동일 resultKey 동시 요청은 같은 future를 공유
+    public CompletableFuture<BidProcessingResult> register(String resultKey) {
+        return pending.computeIfAbsent(resultKey, k -> new CompletableFuture<>());
+    }
+
+    public void unregister(String resultKey, CompletableFuture<BidProcessingResult> waiter) {
+        pending.remove(resultKey, waiter);
+    }
+
+    // 결과 저장 이후 호출, 로컬 대기자가 없으면 다른 노드에 알림
+    public void notifyCompleted(String resultKey, BidProcessingResult result) {
+        if (completeLocal(resultKey, result)) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(props.getResultChannel(), resultKey);
+        } catch (Exception e) {
+            // 알림 실패 시 대기 측은 타임아웃 후 DB 멱등 조회로 복구
+            log.warn("[BID_RESULT] publish failed. resultKey={}", resultKey, e);
+        }
+    }
+
+    // 배치 결과 알림, 다른 노드로 보낼 결과키는 파이프라인 1회로 발행
+    public void notifyCompletedAll(Map<String, BidProcessingResult> results) {
+        List<String> remoteKeys = new ArrayList<>();
+        results.forEach((resultKey, result) -> {
+            if (!completeLocal(resultKey, result)) {
+                remoteKeys.add(resultKey);
+            }
+        });
+        if (remoteKeys.isEmpty()) return;
+
+        byte[] channel = props.getResultChannel().getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                remoteKeys.forEach(key -> connection.publish(channel, key.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[BID_RESULT] batch publish failed. size={}", remoteKeys.size(), e);
+        }
+    }
+
+    public boolean completeLocal(String resultKey, BidProcessingResult result) {
+        CompletableFuture<BidProcessingResult> waiter = pending.remove(resultKey);
+        if (waiter == null) {
+            return false;
+        }
+        waiter.complete(result);
+        return true;
+    }
+
+    // 다른 노드에서 처리된 결과 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String resultKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!pending.containsKey(resultKey)) {
+            return;
+        }
+
+        BidProcessingResult result = bidResultStore.get(resultKey);
+        if (result == null || result.isPending()) {
+            return;
+        }
+        completeLocal(resultKey, result);
+    }
+}
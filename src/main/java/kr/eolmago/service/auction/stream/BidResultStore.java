@@ -3,10 +3,15 @@ package kr.eolmago.service.auction.stream;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -37,11 +42,30 @@ public class BidResultStore {
     }
 
     public void put(String key, BidProcessingResult value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, toJson(value), ttl);
+    }
+
+    // 배치 결과 저장, 키마다 TTL이 필요하고 클러스터에서 키 슬롯이 달라 MSET 대신 SET PX 파이프라인
+    public void putAll(Map<String, BidProcessingResult> values, Duration ttl) {
+        if (values.isEmpty()) return;
+
+        Expiration expiration = Expiration.from(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    toJson(value).getBytes(StandardCharsets.UTF_8),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert()
+            ));
+            return null;
+        });
+    }
+
+    private String toJson(BidProcessingResult value) {
         try {
-            String json = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, json, ttl);
+            return objectMapper.writeValueAsString(value);
         } catch (Exception e) {
-            redisTemplate.opsForValue().set(key, "{\"status\":\"ERROR\",\"errorCode\":\"SYSTEM_ERROR\"}", ttl);
+            return "{\"status\":\"ERROR\",\"errorCode\":\"SYSTEM_ERROR\"}";
         }
     }
 }
\ No newline at end of file
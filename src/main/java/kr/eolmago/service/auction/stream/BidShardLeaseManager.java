@@ -0,0 +1,16 @@
+package kr.eolmago.service.auction.stream;
+
+import kr.eolmago.global.stream.StreamLeaseManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰 스트림 샤드 소유권(리스) 관리
+ */
+@Component
+public class BidShardLeaseManager extends StreamLeaseManager {
+
+    public BidShardLeaseManager(StringRedisTemplate redisTemplate, BidStreamProperties props) {
+        super(redisTemplate, BidStreamSupport.NODES_KEY, BidStreamSupport::shardOwnerKey, props::getShardLeaseTtlMs);
+    }
+}
@@ -11,10 +11,30 @@ public class BidStreamProperties {
 
     private boolean consumerEnabled = true;
 
+    // 실제 스트림 키는 샤드별 {streamKey}:{n}
     private String streamKey = "stream:bids";
     private String group = "cg:bids";
     private String consumerName = "";
 
+    // 처리 완료 알림 채널(노드 간 결과 전달)
+    private String resultChannel = "bid:result:done";
+
+    // 샤드 수(모든 노드가 동일해야 함), 경매 ID 해시로 샤드 결정
+    private int shardCount = 8;
+    // 샤드 소유권 리스 TTL / 갱신(재분배) 주기
+    private long shardLeaseTtlMs = 10_000L;
+    private long shardRebalanceIntervalMs = 3_000L;
+
+    // PEL 회수: 유휴 시간이 지난 미처리 레코드를 재처리, 전달 횟수 초과 시 dead-letter
+    private long pendingReclaimIntervalMs = 15_000L;
+    private long pendingMinIdleMs = 30_000L;
+    private long maxDeliveryCount = 3;
+
+    // 메모리 가격 장부로 검증 후 DB는 모아서 반영(write-behind), false면 건별 FOR UPDATE 처리
+    private boolean priceBookEnabled = true;
+    private long writeBehindFlushIntervalMs = 20L;
+    private int writeBehindMaxBatch = 200;
+
     private int batchSize = 50;
     private long pollTimeoutMs = 200;
 
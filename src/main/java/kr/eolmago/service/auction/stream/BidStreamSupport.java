@@ -4,6 +4,9 @@ import java.util.UUID;
 
 public final class BidStreamSupport {
 
+    // 샤드 소유 노드 생존 신호(ZSET, score = 마지막 heartbeat 시각)
+    public static final String NODES_KEY = "bid:stream:nodes";
+
     private BidStreamSupport() {}
 
     // bid:result:{buyerId}:{requestId}
@@ -15,4 +18,19 @@ public final class BidStreamSupport {
     public static String publishKey(UUID buyerId, String requestId) {
         return "bid:publish:" + buyerId + ":" + requestId;
     }
-}
\ No newline at end of file
+
+    // 같은 경매는 항상 같은 샤드 -> 샤드 내 순차 처리로 경매별 순서 보장
+    public static int shardOf(UUID auctionId, int shardCount) {
+        return Math.floorMod(auctionId.hashCode(), shardCount);
+    }
+
+    // stream:bids:{n} (해시태그로 샤드별 클러스터 슬롯 분산)
+    public static String shardStreamKey(String streamKey, int shard) {
+        return streamKey + ":{" + shard + "}";
+    }
+
+    // bid:stream:owner:{n}
+    public static String shardOwnerKey(int shard) {
+        return "bid:stream:owner:{" + shard + "}";
+    }
+}
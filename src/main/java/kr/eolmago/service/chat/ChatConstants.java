@@ -6,7 +6,7 @@ public final class ChatConstants {
 	// paging
 	public static final int MESSAGE_PAGE_SIZE = 30;
 
-	// redis stream
+	// redis stream (실제 키는 파티션별 {STREAM_KEY}:{n}, 튜닝 값은 ChatStreamProperties)
 	public static final String STREAM_KEY = "chat:messages";
 	public static final String GROUP = "chat-group";
 
@@ -20,12 +20,13 @@ public final class ChatConstants {
 	public static final String XGROUP_START_ID = "$";
 	public static final String XGROUP_MKSTREAM = "MKSTREAM";
 
+	// read receipt write-behind (읽음 위치를 모아 주기적으로 DB 반영, 실제 키는 샤드별 {READ_RECEIPT_KEY}:{n})
+	public static final long READ_RECEIPT_FLUSH_MS = 2_000L;
+	public static final String READ_RECEIPT_KEY = "chat:read:pending";
+	public static final int READ_RECEIPT_SHARDS = 16;
+	public static final int READ_RECEIPT_FLUSH_BATCH = 1_000;	// 주기마다 샤드당 최대 반영 건수
+	public static final String READ_RECEIPT_LOCK_KEY = "chat:read:flush:lock";
+
 	// ws topic
 	public static final String TOPIC_ROOM_PREFIX = "/topic/chat.rooms.";
-
-	// consumer tuning
-	public static final long POLL_FIXED_DELAY_MS = 200L;
-	public static final int POLL_COUNT = 50;
-	public static final long POLL_BLOCK_SECONDS = 1L;
-	public static final String DEFAULT_CONSUMER_NAME = "c1";
 }
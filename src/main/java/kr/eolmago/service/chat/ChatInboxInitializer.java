@@ -0,0 +1,29 @@
+package kr.eolmago.service.chat;
+
+import kr.eolmago.repository.chat.ChatInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 방 목록 프로젝션이 없는 기존 방을 기동 시 한 번 채움
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxInitializer implements ApplicationRunner {
+
+	private final ChatInboxRepository chatInboxRepository;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		try {
+			int created = chatInboxRepository.backfillMissing();
+			if (created > 0) {
+				log.info("[CHAT_INBOX] backfilled. rows={}", created);
+			}
+		} catch (Exception e) {
+			log.warn("[CHAT_INBOX] backfill failed. err={}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package kr.eolmago.service.chat;
+
+import kr.eolmago.global.stream.StreamLeaseManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 스트림 파티션 소유권(리스) 관리
+ */
+@Component
+public class ChatPartitionLeaseManager extends StreamLeaseManager {
+
+	public ChatPartitionLeaseManager(StringRedisTemplate redisTemplate, ChatStreamProperties props) {
+		super(redisTemplate, ChatStreamSupport.NODES_KEY, ChatStreamSupport::partitionOwnerKey, props::getLeaseTtlMs);
+	}
+}
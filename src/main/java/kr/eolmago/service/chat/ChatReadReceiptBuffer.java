@@ -0,0 +1,177 @@
+package kr.eolmago.service.chat;
+
+import static kr.eolmago.service.chat.ChatConstants.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import kr.eolmago.repository.chat.ChatInboxRepository;
+import kr.eolmago.repository.chat.ChatReadReceipt;
+import kr.eolmago.repository.chat.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 읽음 위치 write-behind
+ * - 방 조회 시에는 (방, 사용자)별 최대 messageId만 Redis 해시에 기록
+ * - 해시는 사용자 기준 READ_RECEIPT_SHARDS개로 나눠 한 키/슬롯에 몰리지 않게 함
+ *   (방 목록 조회는 한 사용자 것이라 HMGET 1회 유지)
+ * - 한 노드가 주기적으로 샤드마다 HSCAN으로 최대 READ_RECEIPT_FLUSH_BATCH건씩 모아 chat_rooms/chat_inbox에 일괄 반영
+ * - 반영 전까지 방 목록의 안 읽은 수는 이 값과 합쳐 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptBuffer {
+
+	// 더 큰 값일 때만 기록
+	private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>(
+		"local c = redis.call('hget', KEYS[1], ARGV[1]) "
+			+ "if (not c) or tonumber(c) < tonumber(ARGV[2]) then "
+			+ "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) return 1 end "
+			+ "return 0",
+		Long.class
+	);
+
+	// 반영한 값 그대로일 때만 제거(그 사이 더 읽었으면 다음 주기에 반영)
+	private static final RedisScript<Long> REMOVE_FLUSHED_SCRIPT = new DefaultRedisScript<>(
+		"local n = 0 "
+			+ "for i = 1, #ARGV, 2 do "
+			+ "if redis.call('hget', KEYS[1], ARGV[i]) == ARGV[i + 1] then "
+			+ "n = n + redis.call('hdel', KEYS[1], ARGV[i]) end "
+			+ "end "
+			+ "return n",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatInboxRepository chatInboxRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public void mark(Long roomId, UUID userId, Long messageId) {
+		try {
+			redisTemplate.execute(MARK_SCRIPT, List.of(shardKey(userId)), field(roomId, userId), String.valueOf(messageId));
+		} catch (Exception e) {
+			// 읽기 요청 트랜잭션에서는 쓰지 않음, 다음 조회 때 다시 기록
+			log.warn("[CHAT_READ] buffer failed. roomId={}, userId={}, err={}", roomId, userId, e.toString());
+		}
+	}
+
+	// 아직 반영되지 않은 읽음 위치 (roomId -> messageId)
+	public Map<Long, Long> pendingReadIds(UUID userId, Collection<Long> roomIds) {
+		if (roomIds.isEmpty()) return Map.of();
+
+		List<Long> ids = List.copyOf(roomIds);
+		try {
+			List<Object> values = redisTemplate.opsForHash().multiGet(
+				shardKey(userId),
+				ids.stream().map(roomId -> (Object) field(roomId, userId)).toList()
+			);
+
+			Map<Long, Long> result = new HashMap<>();
+			for (int i = 0; i < ids.size(); i++) {
+				Object value = values.get(i);
+				if (value != null) {
+					result.put(ids.get(i), Long.valueOf(value.toString()));
+				}
+			}
+			return result;
+		} catch (Exception e) {
+			log.warn("[CHAT_READ] pending read failed. userId={}, err={}", userId, e.toString());
+			return Map.of();
+		}
+	}
+
+	@Scheduled(fixedDelay = READ_RECEIPT_FLUSH_MS)
+	public void flush() {
+		try {
+			Boolean locked = redisTemplate.opsForValue()
+				.setIfAbsent(READ_RECEIPT_LOCK_KEY, "1", Duration.ofMillis(READ_RECEIPT_FLUSH_MS));
+			if (!Boolean.TRUE.equals(locked)) return;
+		} catch (Exception e) {
+			log.warn("[CHAT_READ] flush lock failed. err={}", e.toString());
+			return;
+		}
+
+		// 샤드 하나가 실패해도 나머지는 반영, 남은 항목은 다음 주기에 처리
+		for (int shard = 0; shard < READ_RECEIPT_SHARDS; shard++) {
+			String key = shardKey(shard);
+			try {
+				flushShard(key);
+			} catch (Exception e) {
+				log.warn("[CHAT_READ] flush failed. key={}, err={}", key, e.toString());
+			}
+		}
+	}
+
+	private void flushShard(String key) {
+		List<ChatReadReceipt> receipts = new ArrayList<>();
+		List<String> flushed = new ArrayList<>();
+
+		ScanOptions options = ScanOptions.scanOptions().count(READ_RECEIPT_FLUSH_BATCH).build();
+		try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(key, options)) {
+			while (cursor.hasNext() && flushed.size() < READ_RECEIPT_FLUSH_BATCH * 2) {
+				Map.Entry<Object, Object> entry = cursor.next();
+				ChatReadReceipt receipt = parse(entry.getKey().toString(), entry.getValue().toString());
+				if (receipt != null) {
+					receipts.add(receipt);
+				}
+				flushed.add(entry.getKey().toString());
+				flushed.add(entry.getValue().toString());
+			}
+		}
+		if (flushed.isEmpty()) return;
+
+		if (!receipts.isEmpty()) {
+			persist(receipts);
+		}
+		redisTemplate.execute(REMOVE_FLUSHED_SCRIPT, List.of(key), flushed.toArray());
+	}
+
+	private void persist(List<ChatReadReceipt> receipts) {
+		transactionTemplate.executeWithoutResult(status -> {
+			chatRoomRepository.markReadAll(receipts);
+			chatInboxRepository.markReadAll(receipts);
+		});
+	}
+
+	private static String shardKey(UUID userId) {
+		return shardKey(Math.floorMod(userId.hashCode(), READ_RECEIPT_SHARDS));
+	}
+
+	private static String shardKey(int shard) {
+		return READ_RECEIPT_KEY + ":" + shard;
+	}
+
+	private static String field(Long roomId, UUID userId) {
+		return roomId + ":" + userId;
+	}
+
+	// 형식이 깨진 항목은 반영 없이 제거
+	private static ChatReadReceipt parse(String field, String value) {
+		try {
+			int idx = field.indexOf(':');
+			return new ChatReadReceipt(
+				Long.valueOf(field.substring(0, idx)),
+				UUID.fromString(field.substring(idx + 1)),
+				Long.valueOf(value)
+			);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
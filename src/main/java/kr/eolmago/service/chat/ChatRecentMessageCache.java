@@ -0,0 +1,148 @@
+package kr.eolmago.service.chat;
+
+import static kr.eolmago.service.chat.ChatConstants.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.eolmago.dto.api.chat.response.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 최근 메시지 캐시 (ZSET, score = messageId, 최대 RECENT_CAPACITY개)
+ * - 컨슈머가 커밋 후 추가, 첫 페이지는 여기서 읽고 이전 커서만 DB 조회
+ * - warm 마커가 있을 때만 완전한 최근 구간으로 간주(없으면 DB에서 채움)
+ * - 채우는 중 들어온 메시지도 ZADD로 합쳐지므로 유실 없음, 중복은 읽을 때 messageId로 제거
+ * - 추가에 실패하면 구간이 비므로 두 키를 지워 다음 조회가 DB에서 다시 채우도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRecentMessageCache {
+
+	private static final int RECENT_CAPACITY = MESSAGE_PAGE_SIZE * 2;
+	private static final long RECENT_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+
+	// KEYS[1]=zset, KEYS[2]=warm / ARGV[1]=capacity, ARGV[2]=ttl, ARGV[3]=warm 여부, ARGV[4..]=score,member...
+	private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+		"for i = 4, #ARGV, 2 do redis.call('zadd', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+			+ "redis.call('zremrangebyrank', KEYS[1], 0, -(tonumber(ARGV[1]) + 1)) "
+			+ "redis.call('pexpire', KEYS[1], ARGV[2]) "
+			+ "if ARGV[3] == '1' then redis.call('set', KEYS[2], '1', 'PX', ARGV[2]) "
+			+ "else redis.call('pexpire', KEYS[2], ARGV[2]) end "
+			+ "return 1",
+		Long.class
+	);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('exists', KEYS[2]) == 0 then return false end "
+			+ "return redis.call('zrevrange', KEYS[1], 0, ARGV[1])",
+		List.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	private Counter hitCounter;
+	private Counter missCounter;
+
+	@PostConstruct
+	public void registerMetrics() {
+		hitCounter = Counter.builder("chat.recent.cache").tag("result", "hit").register(meterRegistry);
+		missCounter = Counter.builder("chat.recent.cache").tag("result", "miss").register(meterRegistry);
+	}
+
+	// 최신순 최대 limit개, 캐시가 비었거나(warm 아님) 읽기 실패면 empty
+	@SuppressWarnings("unchecked")
+	public Optional<List<ChatMessageResponse>> readLatest(Long roomId, int limit) {
+		try {
+			List<String> raw = redisTemplate.execute(
+				READ_SCRIPT, keys(roomId), String.valueOf(RECENT_CAPACITY - 1)
+			);
+			if (raw == null) {
+				missCounter.increment();
+				return Optional.empty();
+			}
+
+			List<ChatMessageResponse> result = new ArrayList<>(Math.min(raw.size(), limit));
+			Set<Long> seen = new HashSet<>();
+			for (String json : raw) {
+				if (result.size() >= limit) break;
+				ChatMessageResponse message = objectMapper.readValue(json, ChatMessageResponse.class);
+				if (seen.add(message.messageId())) {
+					result.add(message);
+				}
+			}
+			hitCounter.increment();
+			return Optional.of(result);
+		} catch (Exception e) {
+			missCounter.increment();
+			log.warn("[CHAT_RECENT] read failed. roomId={}, err={}", roomId, e.toString());
+			return Optional.empty();
+		}
+	}
+
+	// DB에서 읽은 첫 페이지로 채우고 warm 표시
+	public void warm(Long roomId, List<ChatMessageResponse> latest) {
+		write(roomId, latest, true);
+	}
+
+	// 컨슈머 커밋 이후 호출, 방별로 한 번씩 실행
+	public void appendAll(List<ChatMessageResponse> messages) {
+		Map<Long, List<ChatMessageResponse>> byRoom = new LinkedHashMap<>();
+		for (ChatMessageResponse m : messages) {
+			byRoom.computeIfAbsent(m.roomId(), k -> new ArrayList<>()).add(m);
+		}
+		byRoom.forEach((roomId, roomMessages) -> write(roomId, roomMessages, false));
+	}
+
+	private void write(Long roomId, List<ChatMessageResponse> messages, boolean markWarm) {
+		try {
+			List<String> args = new ArrayList<>(3 + messages.size() * 2);
+			args.add(String.valueOf(RECENT_CAPACITY));
+			args.add(String.valueOf(RECENT_TTL_MILLIS));
+			args.add(markWarm ? "1" : "0");
+			for (ChatMessageResponse m : messages) {
+				args.add(String.valueOf(m.messageId()));
+				args.add(objectMapper.writeValueAsString(m));
+			}
+			redisTemplate.execute(APPEND_SCRIPT, keys(roomId), args.toArray());
+		} catch (Exception e) {
+			log.warn("[CHAT_RECENT] write failed. roomId={}, err={}", roomId, e.toString());
+			if (!markWarm) {
+				invalidate(roomId);
+			}
+		}
+	}
+
+	// best effort, 실패해도 TTL 만료 후에는 DB에서 다시 채워짐
+	private void invalidate(Long roomId) {
+		try {
+			redisTemplate.delete(keys(roomId));
+		} catch (Exception e) {
+			log.warn("[CHAT_RECENT] invalidate failed. roomId={}, err={}", roomId, e.toString());
+		}
+	}
+
+	// chat:recent:{roomId}, chat:recent:{roomId}:warm (같은 슬롯)
+	private static List<String> keys(Long roomId) {
+		String key = "chat:recent:{" + roomId + "}";
+		return List.of(key, key + ":warm");
+	}
+}
@@ -0,0 +1,53 @@
+package kr.eolmago.service.chat;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import kr.eolmago.repository.chat.ChatRoomParticipantsProjection;
+import kr.eolmago.repository.chat.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참여자(판매자/구매자) 로컬 캐시
+ * - 방의 참여자는 생성 후 바뀌지 않으므로 만료 없이 보관
+ * - 없는 방만 한 번의 조회로 채움, 크기 상한을 넘으면 비움
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantCache {
+
+	private static final int MAX_ENTRIES = 50_000;
+
+	private final ChatRoomRepository chatRoomRepository;
+
+	private final Map<Long, ChatRoomParticipantsProjection> participants = new ConcurrentHashMap<>();
+
+	// 존재하지 않는 방은 결과에서 빠짐
+	public Map<Long, ChatRoomParticipantsProjection> getAll(Collection<Long> roomIds) {
+		Map<Long, ChatRoomParticipantsProjection> result = new HashMap<>();
+		List<Long> misses = roomIds.stream()
+			.distinct()
+			.filter(roomId -> {
+				ChatRoomParticipantsProjection cached = participants.get(roomId);
+				if (cached == null) return true;
+				result.put(roomId, cached);
+				return false;
+			})
+			.toList();
+
+		if (misses.isEmpty()) return result;
+
+		if (participants.size() + misses.size() > MAX_ENTRIES) {
+			participants.clear();
+		}
+		for (ChatRoomParticipantsProjection p : chatRoomRepository.findParticipantsByIds(misses)) {
+			participants.put(p.roomId(), p);
+			result.put(p.roomId(), p);
+		}
+		return result;
+	}
+}
@@ -3,9 +3,9 @@ package kr.eolmago.service.chat;
 import static kr.eolmago.service.chat.ChatConstants.MESSAGE_PAGE_SIZE;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import kr.eolmago.domain.entity.auction.Auction;
-import kr.eolmago.domain.entity.chat.ChatMessage;
 import kr.eolmago.domain.entity.chat.ChatRoom;
 import kr.eolmago.domain.entity.chat.ChatRoomType;
 import kr.eolmago.domain.entity.user.User;
@@ -13,8 +13,11 @@ import kr.eolmago.dto.api.chat.response.ChatMessageResponse;
 import kr.eolmago.dto.api.chat.response.ChatRoomSummaryResponse;
 import kr.eolmago.global.exception.ErrorCode;
 import kr.eolmago.repository.auction.AuctionRepository;
+import kr.eolmago.repository.chat.ChatInboxRepository;
 import kr.eolmago.repository.chat.ChatMessageRepository;
+import kr.eolmago.repository.chat.ChatRoomParticipantsProjection;
 import kr.eolmago.repository.chat.ChatRoomRepository;
+import kr.eolmago.repository.chat.ChatRoomSummaryProjection;
 import kr.eolmago.repository.user.UserRepository;
 import kr.eolmago.service.chat.exception.ChatException;
 import kr.eolmago.service.chat.validation.ChatValidator;
@@ -23,7 +26,6 @@ import kr.eolmago.service.notification.publish.NotificationPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +35,7 @@ public class ChatService {
 
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatMessageRepository chatMessageRepository;
+	private final ChatInboxRepository chatInboxRepository;
 	private final AuctionRepository auctionRepository;
 	private final UserRepository userRepository;
 
@@ -40,30 +43,51 @@ public class ChatService {
 	private final ChatValidator chatValidator;
 	private final ChatSystemUserProvider systemUserProvider;
 	private final NotificationPublisher notificationPublisher;
+	private final ChatRoomParticipantCache participantCache;
+	private final ChatRecentMessageCache recentMessageCache;
+	private final ChatReadReceiptBuffer readReceiptBuffer;
 
 	@Transactional(readOnly = true)
 	public List<ChatRoomSummaryResponse> getMyRooms(UUID userId, ChatRoomType roomType) {
-		return chatRoomRepository.findMyRoomSummariesByType(userId, roomType).stream()
+		List<ChatRoomSummaryProjection> rooms = chatInboxRepository.findSummaries(userId, roomType);
+		Map<Long, Long> pendingReads = readReceiptBuffer.pendingReadIds(
+			userId, rooms.stream().map(ChatRoomSummaryProjection::roomId).toList()
+		);
+
+		return rooms.stream()
+			.map(p -> p.withPendingRead(pendingReads.get(p.roomId())))
 			.map(ChatRoomSummaryResponse::from)
 			.toList();
 	}
 
-	@Transactional
+	// 첫 페이지는 최근 메시지 캐시에서, 이전 커서만 DB 조회 / 읽음 위치는 write-behind
+	@Transactional(readOnly = true)
 	public List<ChatMessageResponse> getMessages(UUID userId, Long roomId, Long cursor) {
-		findRoomAndValidateParticipant(roomId, userId);
-
-		Pageable pageable = PageRequest.of(0, MESSAGE_PAGE_SIZE);
+		validateParticipant(roomId, userId);
 
-		List<ChatMessage> page = (cursor == null)
-			? chatMessageRepository.findByChatRoomChatRoomIdOrderByChatMessageIdDesc(roomId, pageable)
-			: chatMessageRepository.findByChatRoomChatRoomIdAndChatMessageIdLessThanOrderByChatMessageIdDesc(roomId, cursor, pageable);
+		List<ChatMessageResponse> page = (cursor == null)
+			? getLatestMessages(roomId)
+			: chatMessageRepository.findByChatRoomChatRoomIdAndChatMessageIdLessThanOrderByChatMessageIdDesc(
+				roomId, cursor, PageRequest.of(0, MESSAGE_PAGE_SIZE)
+			).stream().map(ChatMessageResponse::from).toList();
 
 		if (cursor == null && !page.isEmpty()) {
-			Long latestId = page.get(0).getChatMessageId();
-			chatRoomRepository.markRead(roomId, userId, latestId);
+			readReceiptBuffer.mark(roomId, userId, page.get(0).messageId());
 		}
 
-		return page.stream().map(ChatMessageResponse::from).toList();
+		return page;
+	}
+
+	private List<ChatMessageResponse> getLatestMessages(Long roomId) {
+		return recentMessageCache.readLatest(roomId, MESSAGE_PAGE_SIZE).orElseGet(() -> {
+			List<ChatMessageResponse> latest = chatMessageRepository
+				.findByChatRoomChatRoomIdOrderByChatMessageIdDesc(roomId, PageRequest.of(0, MESSAGE_PAGE_SIZE))
+				.stream()
+				.map(ChatMessageResponse::from)
+				.toList();
+			recentMessageCache.warm(roomId, latest);
+			return latest;
+		});
 	}
 
 	@Transactional
@@ -118,11 +142,14 @@ public class ChatService {
 		return room;
 	}
 
-	private ChatRoom findRoomAndValidateParticipant(Long roomId, UUID userId) {
-		ChatRoom room = chatRoomRepository.findById(roomId)
-			.orElseThrow(() -> new ChatException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-		chatValidator.validateParticipant(room, userId);
-		return room;
+	private void validateParticipant(Long roomId, UUID userId) {
+		ChatRoomParticipantsProjection participants = participantCache.getAll(List.of(roomId)).get(roomId);
+		if (participants == null) {
+			throw new ChatException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+		}
+		if (!participants.isParticipant(userId)) {
+			throw new ChatException(ErrorCode.CHAT_FORBIDDEN_ROOM);
+		}
 	}
 
 	private Long createAuctionRoomWithRaceHandling(UUID auctionId, UUID requesterId) {
@@ -146,6 +173,7 @@ public class ChatService {
 
 		try {
 			Long roomId = chatRoomRepository.saveAndFlush(newRoom).getChatRoomId();
+			chatInboxRepository.createForRoom(roomId);
 
 			notificationPublisher.publish(NotificationPublishCommand.chatRoomCreated(seller.getUserId(), roomId));
 			notificationPublisher.publish(NotificationPublishCommand.chatRoomCreated(buyer.getUserId(), roomId));
@@ -172,7 +200,9 @@ public class ChatService {
 		ChatRoom room = ChatRoom.createNotificationRoom(botUser, targetUser);
 
 		try {
-			return chatRoomRepository.saveAndFlush(room).getChatRoomId();
+			Long roomId = chatRoomRepository.saveAndFlush(room).getChatRoomId();
+			chatInboxRepository.createForRoom(roomId);
+			return roomId;
 		} catch (DataIntegrityViolationException e) {
 			ChatRoom existing = chatRoomRepository
 				.findByRoomTypeAndTargetUserId(ChatRoomType.NOTIFICATION, userId)
@@ -3,124 +3,422 @@ package kr.eolmago.service.chat;
 import static kr.eolmago.service.chat.ChatConstants.*;
 
 import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
-import kr.eolmago.domain.entity.chat.ChatMessage;
-import kr.eolmago.domain.entity.chat.ChatRoom;
-import kr.eolmago.domain.entity.user.User;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import kr.eolmago.dto.api.chat.response.ChatMessageResponse;
+import kr.eolmago.global.stream.DeadLetterStream;
+import kr.eolmago.global.stream.StreamPendingReclaimer;
+import kr.eolmago.global.websocket.ClusterTopicRelay;
+import kr.eolmago.repository.chat.ChatInboxRepository;
+import kr.eolmago.repository.chat.ChatInboxUnreadDelta;
 import kr.eolmago.repository.chat.ChatMessageRepository;
+import kr.eolmago.repository.chat.ChatMessageRow;
+import kr.eolmago.repository.chat.ChatRoomParticipantsProjection;
 import kr.eolmago.repository.chat.ChatRoomRepository;
-import kr.eolmago.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+/**
+ * 채팅 스트림 컨슈머
+ * - 스트림을 roomId 해시로 파티션, 파티션마다 리스를 가진 노드 하나만 소비 -> 방별 순서 보장
+ * - 전용 스레드(파티션당 1개)에서 XREADGROUP COUNT로 읽은 묶음을 한 트랜잭션으로 저장
+ * - 커밋 후에만 XACK/브로드캐스트, 실패하면 건별로 다시 시도하고 남은 건은 PEL에서 회수
+ * - 컨슈머 이름은 인스턴스마다 고유, 죽은 노드의 PEL은 새 소유 노드가 회수해 파티션 워커 스레드에서 처리
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ChatStreamConsumer {
+public class ChatStreamConsumer implements DisposableBean {
 
 	private final StringRedisTemplate redisTemplate;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatMessageRepository chatMessageRepository;
-	private final UserRepository userRepository;
-	private final SimpMessagingTemplate messagingTemplate;
+	private final ChatInboxRepository chatInboxRepository;
+	private final ChatRoomParticipantCache participantCache;
+	private final ChatRecentMessageCache recentMessageCache;
+	private final ClusterTopicRelay topicRelay;
 	private final TransactionTemplate transactionTemplate;
+	private final StreamPendingReclaimer pendingReclaimer;
+	private final ChatStreamProperties props;
+	private final ChatPartitionLeaseManager leaseManager;
+	private final ChatStreamInitializer streamInitializer;
+	private final MeterRegistry meterRegistry;
+
+	private ExecutorService executor;
+	private ScheduledExecutorService rebalancer;
+
+	// 현재 노드가 소유한 파티션별 워커
+	private final ConcurrentMap<Integer, PartitionWorker> owned = new ConcurrentHashMap<>();
+
+	private String consumerName;
+
+	@PostConstruct
+	public void start() {
+		if (!props.isConsumerEnabled()) return;
 
-	private final String consumerName = DEFAULT_CONSUMER_NAME;
+		String name = props.getConsumerName();
+		this.consumerName = StringUtils.hasText(name) ? name : "c-" + UUID.randomUUID().toString().substring(0, 8);
 
-	@Scheduled(fixedDelay = POLL_FIXED_DELAY_MS)
-	public void poll() {
-		List<MapRecord<String, Object, Object>> records;
+		AtomicInteger threadSeq = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(props.effectiveConcurrency(), r -> {
+			Thread t = new Thread(r, "chat-stream-consumer-" + threadSeq.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+
+		Gauge.builder("chat.stream.partitions.owned", owned, Map::size)
+			.tag("node", consumerName)
+			.register(meterRegistry);
+
+		rebalancer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "chat-stream-rebalancer");
+			t.setDaemon(true);
+			return t;
+		});
+		rebalancer.scheduleWithFixedDelay(this::rebalance, 0, props.getRebalanceIntervalMs(), TimeUnit.MILLISECONDS);
+		rebalancer.scheduleWithFixedDelay(
+			this::reclaimPending,
+			props.getPendingReclaimIntervalMs(),
+			props.getPendingReclaimIntervalMs(),
+			TimeUnit.MILLISECONDS
+		);
+	}
+
+	// 활성 노드 수 기준 공정 몫(최대 concurrency)만큼 파티션 소유
+	private void rebalance() {
 		try {
-			records = redisTemplate.opsForStream().read(
-				Consumer.from(GROUP, consumerName),
-				StreamReadOptions.empty()
-					.count(POLL_COUNT)
-					.block(Duration.ofSeconds(POLL_BLOCK_SECONDS)),
-				StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
-			);
+			int partitionCount = props.getPartitionCount();
+			int nodes = leaseManager.heartbeat(consumerName);
+			int fairShare = Math.min((partitionCount + nodes - 1) / nodes, props.effectiveConcurrency());
+
+			for (Integer partition : List.copyOf(owned.keySet())) {
+				if (!leaseManager.isHeld(partition)) {
+					log.warn("[CHAT_STREAM] partition lease expired locally. partition={}, consumer={}", partition, consumerName);
+					stopPartition(partition, true);
+				} else if (!leaseManager.renew(partition, consumerName)) {
+					log.warn("[CHAT_STREAM] partition lease lost. partition={}, consumer={}", partition, consumerName);
+					stopPartition(partition, false);
+				} else if (!owned.get(partition).isActive()) {
+					stopPartition(partition, false);
+					startPartition(partition);
+				}
+			}
+
+			while (owned.size() > fairShare) {
+				int partition = owned.keySet().stream().max(Integer::compare).orElseThrow();
+				stopPartition(partition, true);
+			}
+
+			int offset = Math.floorMod(consumerName.hashCode(), partitionCount);
+			for (int i = 0; i < partitionCount && owned.size() < fairShare; i++) {
+				int partition = (offset + i) % partitionCount;
+				if (!owned.containsKey(partition) && leaseManager.tryAcquire(partition, consumerName)) {
+					startPartition(partition);
+				}
+			}
 		} catch (Exception e) {
-			log.debug("chat stream read failed: {}", e.getMessage());
-			return;
+			log.warn("[CHAT_STREAM] rebalance failed. consumer={}", consumerName, e);
 		}
+	}
 
-		if (records == null || records.isEmpty()) return;
+	private void startPartition(int partition) {
+		String streamKey = ChatStreamSupport.partitionStreamKey(partition);
+		streamInitializer.ensureGroup(streamKey);
 
-		for (MapRecord<String, Object, Object> record : records) {
-			ProcessResult result = handleOne(record);
+		PartitionWorker worker = new PartitionWorker(partition, streamKey);
+		owned.put(partition, worker);
+		executor.execute(worker);
+		log.info("[CHAT_STREAM] partition acquired. partition={}, consumer={}", partition, consumerName);
+	}
+
+	// 처리 중인 묶음이 끝날 때까지 기다린 뒤 리스 반납
+	private void stopPartition(int partition, boolean release) {
+		PartitionWorker worker = owned.remove(partition);
+		if (worker == null) return;
 
-			if (result.shouldAck()) {
-				redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, record.getId());
+		worker.cancel();
+		long deadline = System.currentTimeMillis() + props.getPollTimeoutMs() * 3;
+		while (worker.isActive() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				break;
 			}
-			if (result.shouldPublish()) {
-				messagingTemplate.convertAndSend(TOPIC_ROOM_PREFIX + result.roomId(), result.payload());
+		}
+
+		if (release) {
+			leaseManager.release(partition, consumerName);
+		}
+		log.info("[CHAT_STREAM] partition stopped. partition={}, consumer={}, released={}", partition, consumerName, release);
+	}
+
+	// 회수한 레코드는 소유 워커에 넘겨 다음 XREADGROUP 전에 같은 스레드에서 처리(방별 순서 유지)
+	private void reclaimPending() {
+		for (Map.Entry<Integer, PartitionWorker> entry : owned.entrySet()) {
+			String streamKey = ChatStreamSupport.partitionStreamKey(entry.getKey());
+			try {
+				List<MapRecord<String, Object, Object>> records = pendingReclaimer.reclaim(
+					streamKey,
+					GROUP,
+					consumerName,
+					Duration.ofMillis(props.getPendingMinIdleMs()),
+					props.getMaxDeliveryCount(),
+					props.getBatchSize(),
+					DeadLetterStream.CHAT
+				);
+				if (!records.isEmpty()) {
+					entry.getValue().handOff(records);
+				}
+			} catch (Exception e) {
+				log.warn("chat stream pending reclaim failed. stream={}, err={}", streamKey, e.getMessage());
 			}
 		}
 	}
 
-	private ProcessResult handleOne(MapRecord<String, Object, Object> record) {
-		Map<Object, Object> value = record.getValue();
+	// 묶음 처리, 저장 실패 시 건별로 재시도(실패한 건은 ACK하지 않아 PEL에 남음)
+	private void process(String streamKey, List<MapRecord<String, Object, Object>> records) {
+		if (records.isEmpty()) return;
 
-		Long roomId;
-		UUID senderId;
-		String content;
+		List<ChatMessageRow> saved;
+		try {
+			saved = persist(records);
+		} catch (Exception e) {
+			if (records.size() == 1) {
+				log.warn("[CHAT_STREAM] record failed. stream={}, id={}, err={}",
+					streamKey, records.get(0).getId(), e.getMessage());
+				return;
+			}
+			log.warn("[CHAT_STREAM] batch failed, retry one by one. stream={}, size={}, err={}",
+				streamKey, records.size(), e.getMessage());
+			for (MapRecord<String, Object, Object> record : records) {
+				process(streamKey, List.of(record));
+			}
+			return;
+		}
+
+		List<ChatMessageResponse> messages = saved.stream()
+			.map(row -> new ChatMessageResponse(
+				row.messageId(),
+				row.roomId(),
+				row.senderId(),
+				row.content(),
+				row.createdAt()
+			))
+			.toList();
 
+		// 최근 메시지 캐시는 ACK 전에 반영(반영 전에 죽으면 PEL에 남아 재처리됨)
+		recentMessageCache.appendAll(messages);
+
+		// 커밋 이후에만 ACK/브로드캐스트
 		try {
-			roomId = Long.valueOf(value.get(FIELD_ROOM_ID).toString());
-			senderId = UUID.fromString(value.get(FIELD_SENDER_ID).toString());
-			content = value.get(FIELD_CONTENT).toString();
+			RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+			redisTemplate.opsForStream().acknowledge(streamKey, GROUP, ids);
 		} catch (Exception e) {
-			return ProcessResult.ackOnly();
+			log.warn("[CHAT_STREAM] ack failed. stream={}, size={}, err={}", streamKey, records.size(), e.getMessage());
 		}
 
-		if (!StringUtils.hasText(content)) return ProcessResult.ackOnly();
+		for (ChatMessageResponse message : messages) {
+			topicRelay.send(TOPIC_ROOM_PREFIX + message.roomId(), message);
+		}
+	}
 
-		ChatMessageResponse payload = transactionTemplate.execute(status -> {
-			Optional<ChatRoom> roomOpt = chatRoomRepository.findById(roomId);
-			if (roomOpt.isEmpty()) return null;
+	private List<ChatMessageRow> persist(List<MapRecord<String, Object, Object>> records) {
+		List<ParsedMessage> parsed = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			ParsedMessage message = parse(record.getValue());
+			if (message != null) parsed.add(message);
+		}
 
-			Optional<User> senderOpt = userRepository.findById(senderId);
-			if (senderOpt.isEmpty()) return null;
+		Map<Long, ChatRoomParticipantsProjection> participants =
+			participantCache.getAll(parsed.stream().map(ParsedMessage::roomId).toList());
 
-			ChatRoom room = roomOpt.get();
-			User sender = senderOpt.get();
+		// 없는 방, 참여자가 아닌 발신자는 저장 없이 ACK
+		List<ParsedMessage> accepted = parsed.stream()
+			.filter(m -> {
+				ChatRoomParticipantsProjection p = participants.get(m.roomId());
+				return p != null && p.isParticipant(m.senderId());
+			})
+			.toList();
 
-			boolean isSeller = room.getSeller().getUserId().equals(senderId);
-			boolean isBuyer = room.getBuyer().getUserId().equals(senderId);
-			if (!isSeller && !isBuyer) return null;
+		if (accepted.isEmpty()) return List.of();
+		return transactionTemplate.execute(status -> save(accepted, participants));
+	}
 
-			ChatMessage saved = chatMessageRepository.save(ChatMessage.create(room, sender, content.trim()));
+	// id는 스트림 순서대로 발급, 방 포인터/방 목록은 방마다 가장 큰 id로 한 번만 갱신
+	private List<ChatMessageRow> save(
+		List<ParsedMessage> messages,
+		Map<Long, ChatRoomParticipantsProjection> participants
+	) {
+		List<Long> ids = chatMessageRepository.nextIds(messages.size());
+		// DB(TIMESTAMPTZ) 정밀도에 맞춰 캐시/브로드캐스트와 조회 결과를 일치시킴
+		OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
 
-			room.updateLastMessageId(saved.getChatMessageId());
-			chatRoomRepository.save(room);
+		List<ChatMessageRow> rows = new ArrayList<>(messages.size());
+		Map<Long, ChatMessageRow> lastByRoom = new LinkedHashMap<>();
+		Map<Long, Map<UUID, Integer>> unreadByRoom = new LinkedHashMap<>();
+		for (int i = 0; i < messages.size(); i++) {
+			ParsedMessage m = messages.get(i);
+			ChatMessageRow row = new ChatMessageRow(ids.get(i), m.roomId(), m.senderId(), m.content(), now);
+			rows.add(row);
+			lastByRoom.put(m.roomId(), row);
 
-			return ChatMessageResponse.from(saved);
-		});
+			// 받는 쪽(상대 참여자)만 안 읽은 수 증가
+			UUID recipient = participants.get(m.roomId()).counterpartOf(m.senderId());
+			unreadByRoom.computeIfAbsent(m.roomId(), k -> new LinkedHashMap<>()).merge(recipient, 1, Integer::sum);
+		}
+
+		Map<Long, Long> lastMessageIdByRoom = new LinkedHashMap<>();
+		lastByRoom.forEach((roomId, row) -> lastMessageIdByRoom.put(roomId, row.messageId()));
 
-		if (payload == null) return ProcessResult.ackOnly();
-		return ProcessResult.ackAndPublish(roomId, payload);
+		List<ChatInboxUnreadDelta> unreadDeltas = new ArrayList<>();
+		unreadByRoom.forEach((roomId, byUser) ->
+			byUser.forEach((userId, delta) -> unreadDeltas.add(new ChatInboxUnreadDelta(roomId, userId, delta))));
+
+		chatMessageRepository.insertAll(rows);
+		chatRoomRepository.advanceLastMessageIds(lastMessageIdByRoom);
+		chatInboxRepository.applyLastMessages(lastByRoom.values());
+		chatInboxRepository.increaseUnread(unreadDeltas);
+		return rows;
 	}
 
-	private record ProcessResult(boolean shouldAck, boolean shouldPublish, Long roomId, ChatMessageResponse payload) {
-		static ProcessResult ackOnly() {
-			return new ProcessResult(true, false, null, null);
+	private ParsedMessage parse(Map<Object, Object> value) {
+		try {
+			Long roomId = Long.valueOf(value.get(FIELD_ROOM_ID).toString());
+			UUID senderId = UUID.fromString(value.get(FIELD_SENDER_ID).toString());
+			String content = value.get(FIELD_CONTENT).toString();
+			if (!StringUtils.hasText(content)) return null;
+			return new ParsedMessage(roomId, senderId, content.trim());
+		} catch (Exception e) {
+			return null;
 		}
-		static ProcessResult ackAndPublish(Long roomId, ChatMessageResponse payload) {
-			return new ProcessResult(true, true, roomId, payload);
+	}
+
+	@PreDestroy
+	@Override
+	public void destroy() {
+		try {
+			if (rebalancer != null) {
+				rebalancer.shutdownNow();
+			}
+		} catch (Exception ignored) {}
+
+		// 다른 노드가 즉시 이어받도록 리스 반납
+		try {
+			for (Integer partition : List.copyOf(owned.keySet())) {
+				stopPartition(partition, true);
+			}
+			if (consumerName != null) {
+				leaseManager.leave(consumerName);
+			}
+		} catch (Exception ignored) {}
+
+		try {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		} catch (Exception ignored) {}
+	}
+
+	private record ParsedMessage(Long roomId, UUID senderId, String content) {}
+
+	// 파티션 하나를 블로킹 XREADGROUP으로 반복 소비
+	private final class PartitionWorker implements Runnable {
+
+		private final int partition;
+		private final String streamKey;
+		private final Queue<List<MapRecord<String, Object, Object>>> reclaimed = new ConcurrentLinkedQueue<>();
+		private volatile boolean running = true;
+		private volatile boolean active = true;
+
+		private PartitionWorker(int partition, String streamKey) {
+			this.partition = partition;
+			this.streamKey = streamKey;
+		}
+
+		@Override
+		public void run() {
+			StreamReadOptions options = StreamReadOptions.empty()
+				.count(props.getBatchSize())
+				.block(Duration.ofMillis(props.getPollTimeoutMs()));
+			try {
+				while (running && !Thread.currentThread().isInterrupted()) {
+					try {
+						drainReclaimed();
+
+						List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+							Consumer.from(GROUP, consumerName),
+							options,
+							StreamOffset.create(streamKey, ReadOffset.lastConsumed())
+						);
+						// 리스가 넘어갔을 수 있으면 처리하지 않고 PEL에 남김
+						if (records != null && !records.isEmpty() && leaseManager.isHeld(partition)) {
+							process(streamKey, records);
+						}
+					} catch (Exception e) {
+						if (!running) break;
+						log.warn("[CHAT_STREAM] poll failed. partition={}, err={}", partition, e.getMessage());
+						Thread.sleep(props.getPollTimeoutMs());
+					}
+				}
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			} finally {
+				active = false;
+			}
+		}
+
+		// 처리하지 못하고 멈추면 PEL에 남아 다음 소유 노드가 회수
+		private void handOff(List<MapRecord<String, Object, Object>> records) {
+			reclaimed.add(records);
+		}
+
+		private void drainReclaimed() {
+			List<MapRecord<String, Object, Object>> records;
+			while (running && (records = reclaimed.poll()) != null) {
+				if (leaseManager.isHeld(partition)) {
+					process(streamKey, records);
+				}
+			}
+		}
+
+		private void cancel() {
+			running = false;
+		}
+
+		private boolean isActive() {
+			return active;
 		}
 	}
 }
@@ -17,23 +17,30 @@ import org.springframework.stereotype.Component;
 public class ChatStreamInitializer implements ApplicationRunner {
 
 	private final StringRedisTemplate redisTemplate;
+	private final ChatStreamProperties props;
 
 	@Override
 	public void run(ApplicationArguments args) {
+		for (int partition = 0; partition < props.getPartitionCount(); partition++) {
+			ensureGroup(ChatStreamSupport.partitionStreamKey(partition));
+		}
+	}
+
+	public void ensureGroup(String streamKey) {
 		try {
 			redisTemplate.execute((RedisCallback<Object>) connection ->
 				connection.execute(
 					CMD_XGROUP,
 					b(XGROUP_CREATE),
-					b(STREAM_KEY),
+					b(streamKey),
 					b(GROUP),
 					b(XGROUP_START_ID),
 					b(XGROUP_MKSTREAM)
 				)
 			);
-			log.info("chat stream group ensured. key={}, group={}", STREAM_KEY, GROUP);
+			log.info("chat stream group ensured. key={}, group={}", streamKey, GROUP);
 		} catch (Exception e) {
-			log.info("chat stream group already exists(or cannot create): {}", e.getMessage());
+			log.debug("chat stream group already exists(or cannot create). key={}, err={}", streamKey, e.getMessage());
 		}
 	}
 
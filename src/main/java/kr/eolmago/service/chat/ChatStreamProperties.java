@@ -0,0 +1,38 @@
+package kr.eolmago.service.chat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.stream")
+public class ChatStreamProperties {
+
+	private boolean consumerEnabled = true;
+
+	// 비어 있으면 인스턴스마다 c-xxxxxxxx 생성
+	private String consumerName = "";
+
+	// 파티션 수(모든 노드가 동일해야 함), roomId 해시로 파티션 결정 -> 방별 순서 보장
+	private int partitionCount = 8;
+	// 노드당 동시에 소비할 최대 파티션 수(= 컨슈머 스레드 수), 0 이하면 partitionCount
+	private int concurrency = 0;
+
+	// 파티션 소유권 리스 TTL / 갱신(재분배) 주기
+	private long leaseTtlMs = 10_000L;
+	private long rebalanceIntervalMs = 3_000L;
+
+	// XREADGROUP COUNT, 한 번에 읽은 묶음을 한 트랜잭션으로 저장
+	private int batchSize = 50;
+	private long pollTimeoutMs = 1_000L;
+
+	// PEL 회수: 유휴 시간이 지난 미처리 레코드를 재처리, 전달 횟수 초과 시 dead-letter
+	private long pendingReclaimIntervalMs = 15_000L;
+	private long pendingMinIdleMs = 30_000L;
+	private long maxDeliveryCount = 3L;
+
+	public int effectiveConcurrency() {
+		return concurrency > 0 ? Math.min(concurrency, partitionCount) : partitionCount;
+	}
+}
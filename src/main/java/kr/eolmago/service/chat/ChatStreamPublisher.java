@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class ChatStreamPublisher {
 
 	private final StringRedisTemplate redisTemplate;
+	private final ChatStreamProperties props;
 
 	public RecordId publish(Long roomId, UUID senderId, String content) {
 		Map<String, String> fields = new HashMap<>();
@@ -22,6 +23,7 @@ public class ChatStreamPublisher {
 		fields.put(FIELD_SENDER_ID, senderId.toString());
 		fields.put(FIELD_CONTENT, content);
 
-		return redisTemplate.opsForStream().add(STREAM_KEY, fields);
+		int partition = ChatStreamSupport.partitionOf(roomId, props.getPartitionCount());
+		return redisTemplate.opsForStream().add(ChatStreamSupport.partitionStreamKey(partition), fields);
 	}
 }
@@ -0,0 +1,26 @@
+package kr.eolmago.service.chat;
+
+import static kr.eolmago.service.chat.ChatConstants.*;
+
+public final class ChatStreamSupport {
+
+	// 파티션 소유 노드 생존 신호(ZSET, score = 마지막 heartbeat 시각)
+	public static final String NODES_KEY = "chat:stream:nodes";
+
+	private ChatStreamSupport() {}
+
+	// 같은 방은 항상 같은 파티션 -> 파티션 내 순차 처리로 방별 순서 보장
+	public static int partitionOf(Long roomId, int partitionCount) {
+		return Math.floorMod(roomId.hashCode(), partitionCount);
+	}
+
+	// chat:messages:{n} (해시태그로 파티션별 클러스터 슬롯 분산)
+	public static String partitionStreamKey(int partition) {
+		return STREAM_KEY + ":{" + partition + "}";
+	}
+
+	// chat:stream:owner:{n}
+	public static String partitionOwnerKey(int partition) {
+		return "chat:stream:owner:{" + partition + "}";
+	}
+}
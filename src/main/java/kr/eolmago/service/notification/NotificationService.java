@@ -23,6 +23,7 @@ public class NotificationService {
 	private final NotificationValidator notificationValidator;
 	private final NotificationMapper notificationMapper;
 	private final NotificationSseHub sseHub;
+	private final NotificationUnreadCounter unreadCounter;
 
 	private final Clock clock;
 
@@ -36,31 +37,38 @@ public class NotificationService {
 			.map(notificationMapper::toResponse);
 	}
 
-	@Transactional(readOnly = true)
 	public long unreadCount(UUID userId) {
-		return notificationRepository.countByUser_UserIdAndReadFalseAndDeletedFalse(userId);
+		return unreadCounter.get(userId);
 	}
 
 	@Transactional
 	public void readOne(UUID userId, Long notificationId) {
 		Notification notification = notificationValidator.validateAndGetOwnedActive(userId, notificationId);
+		if (!notification.isRead()) {
+			unreadCounter.adjustAfterCommit(userId, -1);
+		}
 		notification.markRead(now());
 	}
 
 	@Transactional
 	public int readAll(UUID userId) {
-		return notificationRepository.markAllRead(userId, now());
+		int updated = notificationRepository.markAllRead(userId, now());
+		unreadCounter.evictAfterCommit(userId);
+		return updated;
 	}
 
 	@Transactional
 	public void delete(UUID userId, Long notificationId) {
 		Notification notification = notificationValidator.validateAndGetOwnedActive(userId, notificationId);
+		if (!notification.isRead()) {
+			unreadCounter.adjustAfterCommit(userId, -1);
+		}
 		notification.softDelete(now());
 	}
 
 	@Transactional(readOnly = true)
-	public SseEmitter connectStream(UUID userId) {
-		return sseHub.connect(userId);
+	public SseEmitter connectStream(UUID userId, String lastEventId) {
+		return sseHub.connect(userId, lastEventId);
 	}
 
 	private OffsetDateTime now() {
@@ -1,18 +1,33 @@
 package kr.eolmago.service.notification;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import kr.eolmago.dto.api.notification.response.NotificationResponse;
+import kr.eolmago.service.notification.NotificationSseRelay.SseEnvelope;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 알림 SSE 연결 관리
+ * - emitter는 노드 로컬, 다른 노드 사용자에게는 NotificationSseRelay로 전달
+ * - 이벤트 id = notificationId, 재연결 시 Last-Event-ID 이후 이벤트 재전송
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class NotificationSseHub {
 
 	private static final long DEFAULT_TIMEOUT_MILLIS = 60L * 60 * 1000; // 1 hour
@@ -22,9 +37,30 @@ public class NotificationSseHub {
 	private static final String EVENT_NOTIFICATION = "NOTIFICATION";
 	private static final String INIT_PAYLOAD = "connected";
 
+	private final NotificationSseRelay relay;
+	private final MeterRegistry meterRegistry;
+
 	private final ConcurrentHashMap<UUID, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+
+	private Counter replayedCounter;
+
+	@PostConstruct
+	public void init() {
+		relay.subscribe(this::deliverLocal);
+
+		Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+			.description("이 노드의 SSE 연결 수")
+			.register(meterRegistry);
+		Gauge.builder("notification.sse.users", emitters, ConcurrentHashMap::size)
+			.description("이 노드에 SSE로 연결된 사용자 수")
+			.register(meterRegistry);
+		replayedCounter = Counter.builder("notification.sse.replayed")
+			.description("Last-Event-ID 재전송 이벤트 수")
+			.register(meterRegistry);
+	}
 
-	public SseEmitter connect(UUID userId) {
+	public SseEmitter connect(UUID userId, String lastEventId) {
 		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT_MILLIS);
 		add(userId, emitter);
 
@@ -32,26 +68,66 @@ public class NotificationSseHub {
 		emitter.onTimeout(() -> remove(userId, emitter));
 		emitter.onError(e -> remove(userId, emitter));
 
-		sendInit(userId, emitter);
+		if (sendInit(userId, emitter)) {
+			replay(userId, emitter, lastEventId);
+		}
 		return emitter;
 	}
 
+	// 로컬 emitter에 즉시 전송 + 다른 노드 전달/재전송 버퍼 기록
 	public void push(UUID userId, NotificationResponse data) {
-		CopyOnWriteArrayList<SseEmitter> list = emitters.get(userId);
+		long id = data.notificationId() == null ? 0L : data.notificationId();
+		SseEnvelope envelope = new SseEnvelope(userId, id, data);
+
+		deliverLocal(envelope);
+		relay.publish(envelope);
+	}
+
+	// 연결 유지 중인 사용자 라우트 TTL 갱신
+	@Scheduled(fixedDelay = 30_000)
+	public void refreshRoutes() {
+		relay.refreshRoutes(List.copyOf(emitters.keySet()));
+	}
+
+	private void deliverLocal(SseEnvelope envelope) {
+		CopyOnWriteArrayList<SseEmitter> list = emitters.get(envelope.userId());
 		if (list == null || list.isEmpty()) return;
 
 		for (SseEmitter emitter : list) {
-			if (!sendSafely(userId, emitter,
-				SseEmitter.event()
-					.name(EVENT_NOTIFICATION)
-					.data(data, MediaType.APPLICATION_JSON))
-			) {
+			if (!sendNotification(envelope, emitter)) {
+				remove(envelope.userId(), emitter);
+			}
+		}
+	}
+
+	private void replay(UUID userId, SseEmitter emitter, String lastEventId) {
+		if (lastEventId == null || lastEventId.isBlank()) return;
+
+		long lastId;
+		try {
+			lastId = Long.parseLong(lastEventId.trim());
+		} catch (NumberFormatException e) {
+			return;
+		}
+
+		for (SseEnvelope envelope : relay.readSince(userId, lastId)) {
+			if (!sendNotification(envelope, emitter)) {
 				remove(userId, emitter);
+				return;
 			}
+			replayedCounter.increment();
 		}
 	}
 
-	private void sendInit(UUID userId, SseEmitter emitter) {
+	private boolean sendNotification(SseEnvelope envelope, SseEmitter emitter) {
+		return sendSafely(envelope.userId(), emitter,
+			SseEmitter.event()
+				.id(String.valueOf(envelope.id()))
+				.name(EVENT_NOTIFICATION)
+				.data(envelope.data(), MediaType.APPLICATION_JSON));
+	}
+
+	private boolean sendInit(UUID userId, SseEmitter emitter) {
 		boolean ok = sendSafely(userId, emitter,
 			SseEmitter.event()
 				.name(EVENT_INIT)
@@ -61,6 +137,7 @@ public class NotificationSseHub {
 		if (!ok) {
 			remove(userId, emitter);
 		}
+		return ok;
 	}
 
 	private boolean sendSafely(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
@@ -74,16 +151,23 @@ public class NotificationSseHub {
 	}
 
 	private void add(UUID userId, SseEmitter emitter) {
-		emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+		CopyOnWriteArrayList<SseEmitter> list = emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>());
+		list.add(emitter);
+		connectionCount.incrementAndGet();
+
+		relay.register(userId);
 	}
 
 	private void remove(UUID userId, SseEmitter emitter) {
 		CopyOnWriteArrayList<SseEmitter> list = emitters.get(userId);
 		if (list == null) return;
 
-		list.remove(emitter);
-		if (list.isEmpty()) {
-			emitters.remove(userId);
+		// onCompletion/onError가 함께 호출될 수 있어 실제로 제거된 경우만 집계
+		if (list.remove(emitter)) {
+			connectionCount.decrementAndGet();
+		}
+		if (list.isEmpty() && emitters.remove(userId, list)) {
+			relay.unregister(userId);
 		}
 	}
 }
@@ -0,0 +1,173 @@
+package kr.eolmago.service.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.eolmago.dto.api.notification.response.NotificationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 알림 SSE 전달
+ * - 사용자별 라우트(ZSET, member = nodeId, score = 만료 ms)에 연결 중인 노드만 기록
+ * - 발행 시 사용자 링 버퍼(LIST)에 남기고 라우트에 있는 노드 채널로만 PUBLISH (Lua 1회)
+ * - 재연결 시 Last-Event-ID 이후 이벤트를 링 버퍼에서 재전송
+ * - 버퍼/라우트 키는 {userId} 해시 태그로 같은 슬롯에 둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationSseRelay implements MessageListener {
+
+	private static final String BUFFER_KEY_PREFIX = "noti:sse:buf:";
+	private static final String ROUTE_KEY_PREFIX = "noti:sse:route:";
+	private static final String NODE_CHANNEL_PREFIX = "noti:sse:node:";
+
+	private static final int BUFFER_SIZE = 50;
+	private static final long BUFFER_TTL_MILLIS = 60L * 60 * 1000;
+	private static final long ROUTE_TTL_MILLIS = 90_000L;
+
+	// 링 버퍼 적재 + 만료된 라우트 정리 + 연결 노드(자기 자신 제외)에만 발행
+	private static final RedisScript<Long> APPEND_AND_ROUTE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('lpush', KEYS[1], ARGV[1]) "
+			+ "redis.call('ltrim', KEYS[1], 0, tonumber(ARGV[2]) - 1) "
+			+ "redis.call('pexpire', KEYS[1], ARGV[3]) "
+			+ "redis.call('zremrangebyscore', KEYS[2], '-inf', ARGV[4]) "
+			+ "local nodes = redis.call('zrange', KEYS[2], 0, -1) "
+			+ "local sent = 0 "
+			+ "for _, n in ipairs(nodes) do "
+			+ "if n ~= ARGV[6] then redis.call('publish', ARGV[5] .. n, ARGV[1]) sent = sent + 1 end "
+			+ "end "
+			+ "return sent",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+
+	private final String nodeId = "n-" + UUID.randomUUID().toString().substring(0, 8);
+
+	private volatile Consumer<SseEnvelope> localDelivery = envelope -> {};
+
+	public record SseEnvelope(UUID userId, long id, NotificationResponse data) {}
+
+	// 이 노드 채널 구독, 수신한 이벤트는 로컬 emitter로 전달
+	public void subscribe(Consumer<SseEnvelope> delivery) {
+		this.localDelivery = delivery;
+		listenerContainer.addMessageListener(this, new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId));
+	}
+
+	public void publish(SseEnvelope envelope) {
+		try {
+			String payload = objectMapper.writeValueAsString(envelope);
+			String userId = envelope.userId().toString();
+			redisTemplate.execute(
+				APPEND_AND_ROUTE_SCRIPT,
+				List.of(bufferKey(userId), routeKey(userId)),
+				payload,
+				String.valueOf(BUFFER_SIZE),
+				String.valueOf(BUFFER_TTL_MILLIS),
+				String.valueOf(System.currentTimeMillis()),
+				NODE_CHANNEL_PREFIX,
+				nodeId
+			);
+		} catch (Exception e) {
+			// 다른 노드 전달/재전송만 누락, 알림 자체는 DB에 저장되어 있음
+			log.warn("[NOTI_SSE] relay publish failed. userId={}, err={}", envelope.userId(), e.toString());
+		}
+	}
+
+	// lastEventId 이후 이벤트를 오래된 순으로 반환
+	public List<SseEnvelope> readSince(UUID userId, long lastEventId) {
+		try {
+			List<String> raw = redisTemplate.opsForList().range(bufferKey(userId.toString()), 0, -1);
+			if (raw == null || raw.isEmpty()) return List.of();
+
+			List<SseEnvelope> result = new ArrayList<>();
+			for (String json : raw) {
+				SseEnvelope envelope = objectMapper.readValue(json, SseEnvelope.class);
+				if (envelope.id() > lastEventId) {
+					result.add(envelope);
+				}
+			}
+			Collections.reverse(result);
+			return result;
+		} catch (Exception e) {
+			log.warn("[NOTI_SSE] replay read failed. userId={}, err={}", userId, e.toString());
+			return List.of();
+		}
+	}
+
+	public void register(UUID userId) {
+		try {
+			String key = routeKey(userId.toString());
+			redisTemplate.opsForZSet().add(key, nodeId, System.currentTimeMillis() + ROUTE_TTL_MILLIS);
+			redisTemplate.expire(key, Duration.ofMillis(ROUTE_TTL_MILLIS));
+		} catch (Exception e) {
+			log.warn("[NOTI_SSE] route register failed. userId={}, err={}", userId, e.toString());
+		}
+	}
+
+	public void unregister(UUID userId) {
+		try {
+			redisTemplate.opsForZSet().remove(routeKey(userId.toString()), nodeId);
+		} catch (Exception e) {
+			log.debug("[NOTI_SSE] route unregister failed. userId={}, err={}", userId, e.toString());
+		}
+	}
+
+	// 연결 유지 중인 사용자 라우트 갱신(파이프라인 1회)
+	public void refreshRoutes(Collection<UUID> userIds) {
+		if (userIds.isEmpty()) return;
+
+		byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+		double expireAt = System.currentTimeMillis() + ROUTE_TTL_MILLIS;
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (UUID userId : userIds) {
+					byte[] key = routeKey(userId.toString()).getBytes(StandardCharsets.UTF_8);
+					connection.zSetCommands().zAdd(key, expireAt, member);
+					connection.keyCommands().pExpire(key, ROUTE_TTL_MILLIS);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("[NOTI_SSE] route refresh failed. users={}, err={}", userIds.size(), e.toString());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			SseEnvelope envelope = objectMapper.readValue(message.getBody(), SseEnvelope.class);
+			localDelivery.accept(envelope);
+		} catch (Exception e) {
+			log.warn("[NOTI_SSE] relay message dropped. err={}", e.toString());
+		}
+	}
+
+	private static String bufferKey(String userId) {
+		return BUFFER_KEY_PREFIX + "{" + userId + "}";
+	}
+
+	private static String routeKey(String userId) {
+		return ROUTE_KEY_PREFIX + "{" + userId + "}";
+	}
+}
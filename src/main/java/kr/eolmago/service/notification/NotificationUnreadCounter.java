@@ -0,0 +1,169 @@
+package kr.eolmago.service.notification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import kr.eolmago.repository.notification.NotificationRepository;
+import kr.eolmago.service.notification.publish.NotificationCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 안 읽은 알림 수 캐시 (Redis)
+ * - 처음 조회할 때만 DB COUNT로 채우고, 이후에는 발행/읽음/삭제 커밋 후 증감
+ * - 캐시가 없는 사용자는 증감하지 않음(다음 조회 때 COUNT)
+ * - 어긋난 값은 주기적 보정 작업이 최근 조회한 사용자만 다시 세어 덮어씀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+	private static final String COUNT_KEY_PREFIX = "noti:unread:";
+	private static final String USERS_KEY = "noti:unread:users";
+	private static final String RECONCILE_LOCK_KEY = "noti:unread:reconcile:lock";
+
+	private static final long COUNT_TTL_MILLIS = 60L * 60 * 1000;
+	private static final long RECONCILE_INTERVAL_MS = 300_000L;
+	private static final int RECONCILE_BATCH_SIZE = 500;
+
+	// 캐시가 있을 때만 증감, 0 미만으로 내려가지 않게 함
+	private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('exists', KEYS[1]) == 0 then return -1 end "
+			+ "local v = redis.call('incrby', KEYS[1], ARGV[1]) "
+			+ "if v < 0 then redis.call('set', KEYS[1], 0, 'KEEPTTL') return 0 end "
+			+ "return v",
+		Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final NotificationRepository notificationRepository;
+
+	public long get(UUID userId) {
+		String key = countKey(userId);
+		try {
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				return Long.parseLong(cached);
+			}
+		} catch (Exception e) {
+			log.warn("[NOTI_UNREAD] cache read failed. userId={}, err={}", userId, e.toString());
+			return notificationRepository.countByUser_UserIdAndReadFalseAndDeletedFalse(userId);
+		}
+
+		long count = notificationRepository.countByUser_UserIdAndReadFalseAndDeletedFalse(userId);
+		try {
+			redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), Duration.ofMillis(COUNT_TTL_MILLIS));
+			redisTemplate.opsForZSet().add(USERS_KEY, userId.toString(), System.currentTimeMillis());
+		} catch (Exception e) {
+			log.warn("[NOTI_UNREAD] cache fill failed. userId={}, err={}", userId, e.toString());
+		}
+		return count;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onCreated(NotificationCreatedEvent e) {
+		adjust(e.userId(), 1);
+	}
+
+	// 호출 트랜잭션 커밋 후 반영 (트랜잭션 밖이면 즉시)
+	public void adjustAfterCommit(UUID userId, long delta) {
+		afterCommit(() -> adjust(userId, delta));
+	}
+
+	public void evictAfterCommit(UUID userId) {
+		afterCommit(() -> {
+			try {
+				redisTemplate.delete(countKey(userId));
+			} catch (Exception e) {
+				log.warn("[NOTI_UNREAD] evict failed. userId={}, err={}", userId, e.toString());
+			}
+		});
+	}
+
+	public void adjust(UUID userId, long delta) {
+		try {
+			redisTemplate.execute(ADJUST_SCRIPT, List.of(countKey(userId)), String.valueOf(delta));
+		} catch (Exception e) {
+			// 보정 작업 전까지 어긋날 수 있으므로 캐시를 버림
+			log.warn("[NOTI_UNREAD] adjust failed. userId={}, err={}", userId, e.toString());
+			try {
+				redisTemplate.delete(countKey(userId));
+			} catch (Exception ignored) {}
+		}
+	}
+
+	// 한 노드만 실행, TTL 안에 조회된 사용자만 사용자 목록 순서대로 다시 셈
+	@Scheduled(fixedDelay = RECONCILE_INTERVAL_MS)
+	public void reconcile() {
+		try {
+			Boolean locked = redisTemplate.opsForValue()
+				.setIfAbsent(RECONCILE_LOCK_KEY, "1", Duration.ofMillis(RECONCILE_INTERVAL_MS));
+			if (!Boolean.TRUE.equals(locked)) return;
+
+			redisTemplate.opsForZSet().removeRangeByScore(
+				USERS_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis() - COUNT_TTL_MILLIS
+			);
+
+			int corrected = 0;
+			for (long offset = 0; ; offset += RECONCILE_BATCH_SIZE) {
+				Set<String> members = redisTemplate.opsForZSet().range(USERS_KEY, offset, offset + RECONCILE_BATCH_SIZE - 1);
+				if (members == null || members.isEmpty()) break;
+
+				List<UUID> userIds = new ArrayList<>(members.size());
+				for (String member : members) {
+					userIds.add(UUID.fromString(member));
+				}
+
+				Map<UUID, Long> counts = notificationRepository.countUnreadByUsers(userIds);
+				for (UUID userId : userIds) {
+					String key = countKey(userId);
+					String expected = String.valueOf(counts.getOrDefault(userId, 0L));
+					String cached = redisTemplate.opsForValue().get(key);
+					if (cached != null && !cached.equals(expected)) {
+						redisTemplate.opsForValue().setIfPresent(key, expected, Duration.ofMillis(COUNT_TTL_MILLIS));
+						corrected++;
+					}
+				}
+
+				if (members.size() < RECONCILE_BATCH_SIZE) break;
+			}
+
+			if (corrected > 0) {
+				log.info("[NOTI_UNREAD] reconciled. corrected={}", corrected);
+			}
+		} catch (Exception e) {
+			log.warn("[NOTI_UNREAD] reconcile failed. err={}", e.toString());
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private static String countKey(UUID userId) {
+		return COUNT_KEY_PREFIX + userId;
+	}
+}
@@ -0,0 +1,187 @@
+package kr.eolmago.service.notification.publish;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.eolmago.domain.entity.notification.Notification;
+import kr.eolmago.domain.entity.notification.NotificationOutbox;
+import kr.eolmago.dto.api.notification.response.NotificationResponse;
+import kr.eolmago.repository.notification.NotificationOutboxRepository;
+import kr.eolmago.repository.notification.NotificationRepository;
+import kr.eolmago.repository.user.UserRepository;
+import kr.eolmago.service.chat.ChatService;
+import kr.eolmago.service.notification.NotificationSseHub;
+import kr.eolmago.service.notification.NotificationUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 outbox 처리 워커
+ * - outbox를 SKIP LOCKED로 묶어 잠그고 notifications에 JDBC batch INSERT 후 삭제 (노드 여러 개여도 중복 없음)
+ * - 커밋 후 SSE push, 알림 채팅 전송 (at-least-once, 실패는 로그만)
+ * - 묶음 처리가 실패하면 한 건씩 재시도, 반복 실패한 행은 폐기
+ * - 공용 스케줄러(경매 마감)와 분리된 전용 스레드에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWorker {
+
+	private static final int BATCH_SIZE = 200;
+	private static final int MAX_ROUNDS = 10;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final long DRAIN_INTERVAL_MS = 200L;
+
+	private final NotificationOutboxRepository outboxRepository;
+	private final NotificationRepository notificationRepository;
+	private final UserRepository userRepository;
+	private final NotificationSseHub sseHub;
+	private final NotificationUnreadCounter unreadCounter;
+	private final ChatService chatService;
+	private final TransactionTemplate transactionTemplate;
+
+	private ScheduledExecutorService drainer;
+
+	private record Delivered(UUID userId, NotificationResponse response) {}
+
+	@PostConstruct
+	public void start() {
+		drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "notification-outbox");
+			t.setDaemon(true);
+			return t;
+		});
+		drainer.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL_MS, DRAIN_INTERVAL_MS, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (drainer == null) return;
+
+		drainer.shutdown();
+		try {
+			drainer.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 예외가 밖으로 나가면 이후 실행이 멈추므로 회차 단위로 잡아 둠
+	private void drain() {
+		try {
+			drainRounds();
+		} catch (Exception e) {
+			log.error("[NOTI_OUTBOX] drain failed. err={}", e.toString());
+		}
+	}
+
+	private void drainRounds() {
+		for (int round = 0; round < MAX_ROUNDS; round++) {
+			List<Delivered> delivered;
+			try {
+				delivered = transactionTemplate.execute(status -> persist(outboxRepository.lockNextBatch(BATCH_SIZE)));
+			} catch (Exception e) {
+				log.warn("[NOTI_OUTBOX] batch failed, retry one by one. err={}", e.toString());
+				delivered = drainOneByOne();
+			}
+
+			if (delivered == null || delivered.isEmpty()) return;
+			fanOut(delivered);
+
+			if (delivered.size() < BATCH_SIZE) return;
+		}
+	}
+
+	private List<Delivered> persist(List<NotificationOutbox> rows) {
+		if (rows.isEmpty()) return List.of();
+
+		List<Notification> notifications = new ArrayList<>(rows.size());
+		for (NotificationOutbox row : rows) {
+			notifications.add(Notification.create(
+				userRepository.getReferenceById(row.getUserId()),
+				row.getType(),
+				row.getTitle(),
+				row.getBody(),
+				row.getLinkUrl(),
+				row.getRelatedEntityType(),
+				row.getRelatedEntityId()
+			));
+		}
+
+		OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+		List<Long> ids = notificationRepository.batchInsert(notifications, now);
+		outboxRepository.deleteAllInBatch(rows);
+
+		List<Delivered> delivered = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			NotificationOutbox row = rows.get(i);
+			delivered.add(new Delivered(row.getUserId(), NotificationResponse.builder()
+				.notificationId(ids.get(i))
+				.type(row.getType())
+				.title(row.getTitle())
+				.body(row.getBody())
+				.linkUrl(row.getLinkUrl())
+				.relatedEntityType(row.getRelatedEntityType())
+				.relatedEntityId(row.getRelatedEntityId())
+				.read(false)
+				.createdAt(now)
+				.build()));
+		}
+		return delivered;
+	}
+
+	private List<Delivered> drainOneByOne() {
+		List<Delivered> delivered = new ArrayList<>();
+		for (Long outboxId : outboxRepository.findNextIds(BATCH_SIZE)) {
+			try {
+				List<Delivered> one = transactionTemplate.execute(status ->
+					outboxRepository.lockById(outboxId)
+						.map(row -> persist(List.of(row)))
+						.orElse(List.of()));
+				if (one != null) delivered.addAll(one);
+			} catch (Exception e) {
+				markFailed(outboxId, e);
+			}
+		}
+		return delivered;
+	}
+
+	private void markFailed(Long outboxId, Exception cause) {
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				outboxRepository.lockById(outboxId).ifPresent(row -> {
+					row.increaseAttempts();
+					if (row.getAttempts() >= MAX_ATTEMPTS) {
+						outboxRepository.delete(row);
+						log.error("[NOTI_OUTBOX] discarded. outboxId={}, userId={}, type={}, err={}",
+							outboxId, row.getUserId(), row.getType(), cause.toString());
+					}
+				}));
+		} catch (Exception e) {
+			log.warn("[NOTI_OUTBOX] mark failed error. outboxId={}, err={}", outboxId, e.toString());
+		}
+	}
+
+	private void fanOut(List<Delivered> delivered) {
+		for (Delivered d : delivered) {
+			unreadCounter.adjust(d.userId(), 1);
+			sseHub.push(d.userId(), d.response());
+
+			try {
+				chatService.publishNotificationMessage(d.userId(), d.response().title() + "\n" + d.response().body());
+			} catch (Exception ex) {
+				log.warn("[NOTI_CHAT] append failed. userId={}, err={}", d.userId(), ex.toString());
+			}
+		}
+	}
+}
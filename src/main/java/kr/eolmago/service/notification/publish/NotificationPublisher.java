@@ -3,8 +3,10 @@ package kr.eolmago.service.notification.publish;
 import java.util.UUID;
 
 import kr.eolmago.domain.entity.notification.Notification;
+import kr.eolmago.domain.entity.notification.NotificationOutbox;
 import kr.eolmago.domain.entity.user.User;
 import kr.eolmago.dto.api.notification.response.NotificationResponse;
+import kr.eolmago.repository.notification.NotificationOutboxRepository;
 import kr.eolmago.repository.notification.NotificationRepository;
 import kr.eolmago.repository.user.UserRepository;
 import kr.eolmago.service.notification.NotificationSseHub;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationPublisher {
 
 	private final NotificationRepository notificationRepository;
+	private final NotificationOutboxRepository outboxRepository;
 	private final UserRepository userRepository;
 	private final NotificationSseHub sseRegistry;
 	private final ApplicationEventPublisher eventPublisher;
@@ -52,4 +55,24 @@ public class NotificationPublisher {
 
 		return saved.getNotificationId();
 	}
+
+	/**
+	 * 호출 트랜잭션에 outbox 행만 기록 (입찰/마감처럼 잠금을 쥔 경로용)
+	 * - 알림 저장, SSE push, 알림 채팅은 커밋 후 NotificationOutboxWorker가 일괄 처리
+	 * - 호출 트랜잭션이 롤백되면 알림도 함께 사라짐
+	 */
+	@Transactional
+	public void enqueue(NotificationPublishCommand cmd) {
+		outboxRepository.save(
+			NotificationOutbox.create(
+				cmd.userId(),
+				cmd.type(),
+				cmd.title(),
+				cmd.body(),
+				cmd.linkUrl(),
+				cmd.relatedEntityType(),
+				cmd.relatedEntityId()
+			)
+		);
+	}
 }
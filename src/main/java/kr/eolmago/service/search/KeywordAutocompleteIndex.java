@@ -0,0 +1,161 @@
+package kr.eolmago.service.search;
+
+import kr.eolmago.domain.entity.search.SearchKeyword;
+import kr.eolmago.domain.entity.search.enums.KeywordType;
+import kr.eolmago.dto.api.search.response.AutocompleteResponse;
+import kr.eolmago.global.util.ChosungUtils;
+import kr.eolmago.repository.search.SearchKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static kr.eolmago.service.search.constants.SearchConstants.*;
+
+/**
+ * 로컬 자동완성 인덱스
+ * - search_keywords 전체를 자모 분해 키로 적재, 입력 중인 글자("아이ㅍ", "아잎")도 prefix로 매칭
+ * - 초성 키(ChosungUtils.extractChosung)로도 함께 적재, 초성 입력("ㅇㅇㅍ")도 메모리에서 조회
+ * - 노드마다 DB에서 증분 반영(lastSearchedAt 기준), 삭제는 주기적 전체 재적재로 반영
+ * - 같은 노드의 검색은 즉시 반영, 다른 노드 검색은 다음 증분 주기에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordAutocompleteIndex {
+
+    private final SearchKeywordRepository searchKeywordRepository;
+
+    // 자모/초성 인덱스는 항상 한 쌍으로 교체
+    private volatile Indexes indexes = newIndexes();
+    private volatile boolean ready;
+
+    // 스케줄러 스레드에서만 접근
+    private OffsetDateTime watermark;
+    private long lastFullReloadMs;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<AutocompleteResponse> autocomplete(String prefix, int limit) {
+        return toResponses(indexes.jamo().top(prefix, limit));
+    }
+
+    // 초성만 입력된 prefix (예: "ㅇㅇㅍ")
+    public List<AutocompleteResponse> autocompleteChosung(String chosungPrefix, int limit) {
+        return toResponses(indexes.chosung().top(chosungPrefix, limit));
+    }
+
+    public void recordHit(String keyword) {
+        Indexes current = indexes;
+        long score = scoreOf(keyword, 1);
+        current.jamo().recordHit(keyword, score);
+        current.chosung().recordHit(keyword, score);
+    }
+
+    public void removeAll(Collection<String> keywords) {
+        Indexes current = indexes;
+        for (String keyword : keywords) {
+            current.jamo().remove(keyword);
+            current.chosung().remove(keyword);
+        }
+    }
+
+    @Scheduled(fixedDelay = AUTOCOMPLETE_REFRESH_MS)
+    public void refresh() {
+        try {
+            if (!ready || System.currentTimeMillis() - lastFullReloadMs >= AUTOCOMPLETE_FULL_RELOAD_MS) {
+                reload();
+            } else {
+                applyChanges();
+            }
+        } catch (Exception e) {
+            log.warn("[SEARCH_INDEX] 자동완성 인덱스 갱신 실패: {}", e.toString());
+        }
+    }
+
+    // id 키셋 페이지로 새 인덱스를 만든 뒤 교체
+    private void reload() {
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        Indexes fresh = newIndexes();
+
+        Long lastId = null;
+        while (fresh.jamo().size() < AUTOCOMPLETE_INDEX_MAX) {
+            List<SearchKeyword> page = searchKeywordRepository.findPageAfterId(lastId, AUTOCOMPLETE_LOAD_PAGE_SIZE);
+            if (page.isEmpty()) break;
+
+            page.forEach(k -> put(fresh, k));
+            lastId = page.get(page.size() - 1).getId();
+
+            if (page.size() < AUTOCOMPLETE_LOAD_PAGE_SIZE) break;
+        }
+        if (fresh.jamo().size() >= AUTOCOMPLETE_INDEX_MAX) {
+            log.warn("[SEARCH_INDEX] 자동완성 인덱스 최대 크기 도달: max={}", AUTOCOMPLETE_INDEX_MAX);
+        }
+
+        indexes = fresh;
+        watermark = startedAt.minusSeconds(AUTOCOMPLETE_REFRESH_OVERLAP_SECONDS);
+        lastFullReloadMs = System.currentTimeMillis();
+        ready = true;
+
+        log.info("[SEARCH_INDEX] 자동완성 인덱스 적재 완료: size={}", fresh.jamo().size());
+    }
+
+    // 마지막 반영 이후 검색된 검색어 덮어쓰기, 늦게 커밋된 갱신을 위해 최근 구간은 매 주기 재조회
+    private void applyChanges() {
+        Indexes current = indexes;
+        OffsetDateTime since = watermark;
+        Long afterId = null;
+        boolean drained = false;
+
+        for (int i = 0; i < AUTOCOMPLETE_INDEX_MAX / AUTOCOMPLETE_LOAD_PAGE_SIZE; i++) {
+            List<SearchKeyword> page = searchKeywordRepository.findSearchedSince(since, afterId, AUTOCOMPLETE_LOAD_PAGE_SIZE);
+            page.forEach(k -> put(current, k));
+            if (page.size() < AUTOCOMPLETE_LOAD_PAGE_SIZE) {
+                drained = true;
+                break;
+            }
+
+            SearchKeyword last = page.get(page.size() - 1);
+            since = last.getLastSearchedAt();
+            afterId = last.getId();
+        }
+
+        // 다 읽지 못했으면 다음 주기에 이어서
+        watermark = drained ? OffsetDateTime.now().minusSeconds(AUTOCOMPLETE_REFRESH_OVERLAP_SECONDS) : since;
+        current.jamo().clearCache();
+        current.chosung().clearCache();
+    }
+
+    private void put(Indexes target, SearchKeyword keyword) {
+        long score = scoreOf(keyword.getKeyword(), keyword.getSearchCount());
+        target.jamo().put(keyword.getKeyword(), keyword.getSearchCount(), score);
+        target.chosung().put(keyword.getKeyword(), keyword.getSearchCount(), score);
+    }
+
+    private static List<AutocompleteResponse> toResponses(List<KeywordPrefixIndex.Entry> entries) {
+        return entries.stream()
+                .map(e -> new AutocompleteResponse(e.keyword(), e.searchCount()))
+                .toList();
+    }
+
+    // 검색량 + 브랜드 가중치(1회)
+    private static long scoreOf(String keyword, int searchCount) {
+        boolean brand = SearchKeyword.determineKeywordType(keyword) == KeywordType.BRAND;
+        return searchCount + (brand ? BRAND_WEIGHT : 0);
+    }
+
+    private static Indexes newIndexes() {
+        return new Indexes(
+                new KeywordPrefixIndex(ChosungUtils::decompose),
+                new KeywordPrefixIndex(ChosungUtils::extractChosung)
+        );
+    }
+
+    private record Indexes(KeywordPrefixIndex jamo, KeywordPrefixIndex chosung) {}
+}
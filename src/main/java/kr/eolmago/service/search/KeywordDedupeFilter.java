@@ -0,0 +1,93 @@
+package kr.eolmago.service.search;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 검색 중복 방지용 로컬 Bloom 필터
+ * - 시간 윈도우 2개(현재/직전)를 교대로 사용, 둘 중 하나에 있으면 중복
+ * - 윈도우가 지나면 비트 배열을 새로 만들어 통째로 만료 (키별 TTL 없음)
+ * - 거짓 양성(처음 검색을 중복으로 판단)만 있고 거짓 음성은 없음, 통계 용도라 허용
+ */
+public class KeywordDedupeFilter {
+
+    private final int mask;
+    private final int hashes;
+    private final long windowMs;
+
+    private volatile Window current;
+    private volatile Window previous;
+
+    private record Window(long startMs, AtomicLongArray words) {}
+
+    public KeywordDedupeFilter(int bits, int hashes, long windowMs) {
+        if (Integer.bitCount(bits) != 1 || bits < Long.SIZE) {
+            throw new IllegalArgumentException("bits must be a power of two >= 64");
+        }
+        this.mask = bits - 1;
+        this.hashes = hashes;
+        this.windowMs = windowMs;
+        this.current = newWindow(System.currentTimeMillis());
+        this.previous = newWindow(0L);
+    }
+
+    /**
+     * 현재 윈도우에 기록하고, 이미 본 키였는지 반환
+     *
+     * @return 현재/직전 윈도우에 이미 있으면 true (중복)
+     */
+    public boolean checkAndAdd(String key, long nowMs) {
+        Window window = rotateIfExpired(nowMs);
+        AtomicLongArray previousWords = previous.words();
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        boolean seenCurrent = true;
+        boolean seenPrevious = true;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & mask;
+            long flag = 1L << bit;
+            long before = window.words().getAndAccumulate(bit >>> 6, flag, (w, f) -> w | f);
+            seenCurrent &= (before & flag) != 0;
+            seenPrevious &= (previousWords.get(bit >>> 6) & flag) != 0;
+        }
+        return seenCurrent || seenPrevious;
+    }
+
+    private Window rotateIfExpired(long nowMs) {
+        Window window = current;
+        if (nowMs - window.startMs() < windowMs) {
+            return window;
+        }
+
+        synchronized (this) {
+            window = current;
+            if (nowMs - window.startMs() >= windowMs) {
+                // 한 윈도우 이상 비어 있었으면 직전 윈도우도 만료
+                previous = nowMs - window.startMs() >= windowMs * 2 ? newWindow(0L) : window;
+                window = newWindow(nowMs);
+                current = window;
+            }
+            return window;
+        }
+    }
+
+    private Window newWindow(long startMs) {
+        return new Window(startMs, new AtomicLongArray((mask + 1) / Long.SIZE));
+    }
+
+    // FNV-1a 64 + 비트 확산
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
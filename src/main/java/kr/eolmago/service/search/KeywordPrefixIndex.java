@@ -0,0 +1,109 @@
+package kr.eolmago.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * 검색어 prefix 인덱스
+ * - (정규화 키 + 검색어) 순 정렬 맵에서 prefix 범위만 잘라 점수 상위 N개 선택
+ * - 정규화 키는 생성 시 지정 (자모 분해, 초성 등)
+ * - 범위가 넓은 짧은 prefix는 결과를 캐시, 캐시는 호출 측 갱신 주기마다 비움
+ */
+public class KeywordPrefixIndex {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+
+    // 이 이상 훑은 prefix만 캐시
+    private static final int CACHE_SCAN_THRESHOLD = 256;
+    private static final int MAX_CACHED_PREFIXES = 10_000;
+
+    // 점수 내림차순, 같으면 검색어 오름차순
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::keyword);
+
+    public record Entry(String keyword, int searchCount, long score) {}
+
+    private final Function<String, String> keyFunction;
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, List<Entry>> topCache = new ConcurrentHashMap<>();
+
+    public KeywordPrefixIndex(Function<String, String> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    public void put(String keyword, int searchCount, long score) {
+        String key = indexKey(keyword);
+        if (key == null) return;
+        entries.put(key, new Entry(keyword, searchCount, score));
+    }
+
+    // 검색 1회 반영, 처음 보는 검색어는 initialScore로 추가
+    public void recordHit(String keyword, long initialScore) {
+        String key = indexKey(keyword);
+        if (key == null) return;
+        entries.merge(
+                key,
+                new Entry(keyword, 1, initialScore),
+                (prev, ignored) -> new Entry(keyword, prev.searchCount() + 1, prev.score() + 1)
+        );
+    }
+
+    public void remove(String keyword) {
+        String key = indexKey(keyword);
+        if (key == null) return;
+        entries.remove(key);
+    }
+
+    public List<Entry> top(String prefix, int limit) {
+        String from = keyFunction.apply(prefix);
+        if (from.isEmpty() || limit <= 0) return List.of();
+
+        String cacheKey = from + SEPARATOR + limit;
+        List<Entry> cached = topCache.get(cacheKey);
+        if (cached != null) return cached;
+
+        // head = 현재 후보 중 가장 낮은 순위
+        PriorityQueue<Entry> heap = new PriorityQueue<>(limit + 1, ORDER.reversed());
+        int scanned = 0;
+        for (Entry entry : entries.subMap(from, true, from + RANGE_END, false).values()) {
+            scanned++;
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(ORDER);
+
+        if (scanned >= CACHE_SCAN_THRESHOLD) {
+            if (topCache.size() >= MAX_CACHED_PREFIXES) {
+                topCache.clear();
+            }
+            topCache.put(cacheKey, List.copyOf(result));
+        }
+        return result;
+    }
+
+    public void clearCache() {
+        topCache.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private String indexKey(String keyword) {
+        if (keyword == null) return null;
+        String key = keyFunction.apply(keyword);
+        return key.isEmpty() ? null : key + SEPARATOR + keyword;
+    }
+}
@@ -1,22 +1,30 @@
 package kr.eolmago.service.search;
 
-import kr.eolmago.domain.entity.search.SearchKeyword;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.eolmago.repository.search.SearchKeywordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
+import static kr.eolmago.service.search.constants.SearchConstants.*;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SearchKeywordScheduler {
 
     private final SearchKeywordRepository searchKeywordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KeywordAutocompleteIndex keywordAutocompleteIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 오래된 검색 키워드 정리 스케줄러
@@ -26,38 +34,61 @@ public class SearchKeywordScheduler {
      * 삭제 조건:
      * - lastSearchedAt이 3개월 이전
      * - searchCount가 5회 미만
+     *
+     * 처리 방식:
+     * - 1000건씩 DELETE ... RETURNING, 청크마다 짧은 트랜잭션 (엔티티/전체 목록 로딩 없음)
+     * - 삭제된 검색어는 Redis 누적 점수(autocomplete:all)와 로컬 자동완성 인덱스에서도 제거
+     * - 청크 하나가 실패하면 중단, 남은 대상은 다음 실행에서 처리
      */
     @Scheduled(cron = "0 0 3 * * *")  // 매일 새벽 3시 (0분 0초)
-    @Transactional
     public void cleanupInactiveKeywords() {
         log.info("오래된 검색 키워드 정리 스케줄러 시작");
 
         OffsetDateTime threshold = OffsetDateTime.now().minusMonths(3);  // 3개월 전
         int minCount = 5;  // 5회 미만
 
-        // 비활성 키워드 조회
-        List<SearchKeyword> inactiveKeywords = searchKeywordRepository.findInactiveKeywords(threshold, minCount);
-
-        if (inactiveKeywords.isEmpty()) {
-            log.info("삭제할 검색 키워드가 없습니다.");
-            return;
-        }
-
-        log.info("삭제 대상 검색 키워드 건수: {}", inactiveKeywords.size());
-
+        Timer.Sample sample = Timer.start(meterRegistry);
         int deletedCount = 0;
-        for (SearchKeyword keyword : inactiveKeywords) {
+        String outcome = "completed";
+        while (true) {
+            List<String> deleted;
             try {
-                searchKeywordRepository.delete(keyword);
-                deletedCount++;
-                log.debug("검색 키워드 삭제: keyword={}, searchCount={}, lastSearchedAt={}",
-                        keyword.getKeyword(), keyword.getSearchCount(), keyword.getLastSearchedAt());
+                deleted = transactionTemplate.execute(status ->
+                        searchKeywordRepository.deleteInactiveKeywords(threshold, minCount, KEYWORD_CLEANUP_BATCH_SIZE));
             } catch (Exception e) {
-                log.error("검색 키워드 삭제 실패: keyword={}, error={}",
-                        keyword.getKeyword(), e.getMessage());
+                outcome = "failed";
+                log.error("검색 키워드 삭제 실패, 다음 실행에서 이어서 처리: deletedSoFar={}, error={}",
+                        deletedCount, e.getMessage());
+                break;
             }
+            if (deleted == null || deleted.isEmpty()) break;
+
+            deletedCount += deleted.size();
+            meterRegistry.counter("search.keyword.cleanup.deleted").increment(deleted.size());
+            removeFromIndexes(deleted);
+            log.info("검색 키워드 정리 진행 중: batch={}, total={}", deleted.size(), deletedCount);
+
+            if (deleted.size() < KEYWORD_CLEANUP_BATCH_SIZE) break;
         }
+        sample.stop(Timer.builder("search.keyword.cleanup.duration")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
 
+        if (deletedCount == 0 && outcome.equals("completed")) {
+            log.info("삭제할 검색 키워드가 없습니다.");
+            return;
+        }
         log.info("오래된 검색 키워드 정리 완료. 삭제된 키워드 수: {}", deletedCount);
     }
-}
\ No newline at end of file
+
+    // 삭제된 검색어를 Redis 누적 점수(ZREM 한 번)와 로컬 자동완성 인덱스에서 제거, 실패해도 DB 삭제는 유지
+    private void removeFromIndexes(List<String> keywords) {
+        try {
+            redisTemplate.opsForZSet().remove(AUTOCOMPLETE_KEY, keywords.toArray());
+        } catch (Exception e) {
+            meterRegistry.counter("search.keyword.cleanup.redis_failed").increment(keywords.size());
+            log.warn("Redis 검색어 점수 삭제 실패: count={}, error={}", keywords.size(), e.getMessage());
+        }
+        keywordAutocompleteIndex.removeAll(keywords);
+    }
+}
@@ -0,0 +1,171 @@
+package kr.eolmago.service.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.eolmago.domain.entity.search.SearchKeyword;
+import kr.eolmago.domain.entity.search.enums.KeywordType;
+import kr.eolmago.repository.search.SearchKeywordCountDelta;
+import kr.eolmago.repository.search.SearchKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static kr.eolmago.service.search.constants.SearchConstants.*;
+
+/**
+ * 검색어 통계 쓰기 지연 버퍼
+ * - 요청 스레드는 로컬 Bloom 필터로 중복만 거르고 검색어별 LongAdder에 누적 (Redis/DB 왕복 없음)
+ * - 주기마다 누적분을 꺼내 multi-row UPSERT 한 문장 + 파이프라인 ZINCRBY로 반영
+ * - 같은 누적분을 급상승/주간 시간 버킷에도 반영 (TrendingKeywordService)
+ * - DB 반영 실패분은 다음 주기에 다시 시도, 노드가 죽으면 마지막 주기 누적분은 유실(통계 용도라 허용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchKeywordStatsBuffer {
+
+    private final SearchKeywordRepository searchKeywordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TrendingKeywordService trendingKeywordService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final KeywordDedupeFilter dedupeFilter = new KeywordDedupeFilter(
+            SEARCH_DEDUPE_BLOOM_BITS, SEARCH_DEDUPE_BLOOM_HASHES, SEARCH_DEDUPE_TTL_SECONDS * 1000L);
+
+    private Counter acceptedCounter;
+    private Counter duplicateCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        acceptedCounter = Counter.builder("search.stats.recorded").tag("result", "accepted").register(meterRegistry);
+        duplicateCounter = Counter.builder("search.stats.recorded").tag("result", "duplicate").register(meterRegistry);
+        droppedCounter = Counter.builder("search.stats.recorded").tag("result", "dropped").register(meterRegistry);
+        Gauge.builder("search.stats.pending", pending, Map::size)
+                .description("DB/Redis 반영 대기 중인 검색어 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색 1회 누적
+     *
+     * @param keyword 검색어
+     * @param userId 사용자 ID (있을 때만 중복 방지)
+     * @return 누적했으면 true, 중복/버퍼 초과로 버렸으면 false
+     */
+    public boolean record(String keyword, UUID userId) {
+        if (userId != null && dedupeFilter.checkAndAdd(keyword + ":" + userId, System.currentTimeMillis())) {
+            duplicateCounter.increment();
+            return false;
+        }
+
+        LongAdder counter = pending.get(keyword);
+        if (counter == null) {
+            if (pending.size() >= SEARCH_STATS_MAX_PENDING) {
+                droppedCounter.increment();
+                return false;
+            }
+            counter = pending.computeIfAbsent(keyword, k -> new LongAdder());
+        }
+        counter.increment();
+        acceptedCounter.increment();
+        return true;
+    }
+
+    @Scheduled(fixedDelay = SEARCH_STATS_FLUSH_MS)
+    public synchronized void flush() {
+        Map<String, Long> counts = drain();
+        if (counts.isEmpty()) return;
+
+        // 검색어 순으로 나눠 반영 (노드 간 행 잠금 순서 통일)
+        List<SearchKeywordCountDelta> deltas = new ArrayList<>(counts.size());
+        counts.forEach((keyword, count) ->
+                deltas.add(new SearchKeywordCountDelta(keyword, SearchKeyword.determineKeywordType(keyword).name(), count)));
+
+        int written = 0;
+        try {
+            while (written < deltas.size()) {
+                int end = Math.min(written + SEARCH_STATS_FLUSH_BATCH_SIZE, deltas.size());
+                searchKeywordRepository.upsertSearchCounts(deltas.subList(written, end));
+                written = end;
+            }
+        } catch (Exception e) {
+            List<SearchKeywordCountDelta> failed = deltas.subList(written, deltas.size());
+            failed.forEach(d -> pending.computeIfAbsent(d.keyword(), k -> new LongAdder()).add(d.count()));
+            log.warn("[SEARCH_STATS] DB 반영 실패, 다음 주기에 재시도: keywords={}, err={}", failed.size(), e.toString());
+        }
+        if (written == 0) return;
+
+        List<SearchKeywordCountDelta> applied = deltas.subList(0, written);
+        try {
+            incrementScores(applied);
+        } catch (Exception e) {
+            // Redis 점수는 DB 통계로 복구 가능한 파생 데이터라 재시도하지 않음
+            log.warn("[SEARCH_STATS] Redis 점수 반영 실패: keywords={}, err={}", applied.size(), e.toString());
+        }
+        try {
+            trendingKeywordService.record(applied, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("[SEARCH_STATS] 시간 버킷 반영 실패: keywords={}, err={}", applied.size(), e.toString());
+        }
+        log.debug("[SEARCH_STATS] flushed. keywords={}", written);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 검색어별 누적분을 꺼내고 0으로 초기화, 이번 주기에 검색이 없던 검색어는 맵에서 제거
+    private Map<String, Long> drain() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count == 0 && pending.remove(entry.getKey(), entry.getValue())) {
+                // 제거 직전에 들어온 증가분
+                count = entry.getValue().sumThenReset();
+            }
+            if (count > 0) {
+                counts.put(entry.getKey(), count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 자동완성/인기 검색어 점수 증가 (파이프라인 ZINCRBY)
+     * - 검색 1회당 1 + 브랜드 가중치
+     * - 예: "아이폰" (BRAND) 3회 → +303, "중고폰" (GENERAL) 3회 → +3
+     */
+    private void incrementScores(List<SearchKeywordCountDelta> deltas) {
+        byte[] key = bytes(AUTOCOMPLETE_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SearchKeywordCountDelta delta : deltas) {
+                int brandWeight = KeywordType.BRAND.name().equals(delta.keywordType()) ? BRAND_WEIGHT : 0;
+                double increment = delta.count() * (SEARCH_INCREMENT + brandWeight);
+                connection.zSetCommands().zIncrBy(key, increment, bytes(delta.keyword()));
+            }
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,153 @@
+package kr.eolmago.service.search;
+
+import kr.eolmago.dto.api.search.response.PopularKeywordResponse;
+import kr.eolmago.repository.search.SearchKeywordCountDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static kr.eolmago.service.search.constants.SearchConstants.*;
+
+/**
+ * 급상승/주간 인기 검색어
+ * - 검색 횟수를 분/시간 단위 버킷 ZSET에 누적, 버킷은 집계 구간이 지나면 만료
+ * - 급상승: 최근 60분 버킷을 반감기 15분 가중치로 ZUNIONSTORE
+ * - 주간: 최근 168시간 버킷을 가중치 1로 ZUNIONSTORE
+ * - 합산은 한 노드만 주기적으로 실행, 모든 노드는 합산 결과 Top 10을 로컬에 캐시
+ * - 브랜드 가중치 없이 순수 검색 횟수만 사용 (누적 점수인 autocomplete:all과 별도)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingKeywordService {
+
+    private static final String NOW_KEY = TRENDING_KEY_PREFIX + "now";
+    private static final String WEEK_KEY = TRENDING_KEY_PREFIX + "week";
+    private static final String LOCK_KEY = TRENDING_KEY_PREFIX + "lock";
+
+    private static final long MINUTE_MS = 60_000L;
+    private static final long HOUR_MS = 3_600_000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile List<PopularKeywordResponse> trendingNow = List.of();
+    private volatile List<PopularKeywordResponse> popularThisWeek = List.of();
+
+    public List<PopularKeywordResponse> getTrendingNow() {
+        return trendingNow;
+    }
+
+    public List<PopularKeywordResponse> getPopularThisWeek() {
+        return popularThisWeek;
+    }
+
+    /**
+     * 현재 분/시간 버킷에 검색 횟수 누적 (파이프라인)
+     * - SearchKeywordStatsBuffer 반영 주기마다 호출
+     * - 버킷 TTL = 집계 구간 + 버킷 1개, 구간을 벗어난 버킷은 Redis가 제거
+     */
+    public void record(List<SearchKeywordCountDelta> deltas, long nowMs) {
+        if (deltas.isEmpty()) return;
+
+        byte[] minuteKey = bytes(minuteKey(nowMs / MINUTE_MS));
+        byte[] hourKey = bytes(hourKey(nowMs / HOUR_MS));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SearchKeywordCountDelta delta : deltas) {
+                byte[] member = bytes(delta.keyword());
+                connection.zSetCommands().zIncrBy(minuteKey, delta.count(), member);
+                connection.zSetCommands().zIncrBy(hourKey, delta.count(), member);
+            }
+            connection.keyCommands().pExpire(minuteKey, (TRENDING_MINUTE_BUCKETS + 1) * MINUTE_MS);
+            connection.keyCommands().pExpire(hourKey, (WEEKLY_HOUR_BUCKETS + 1) * HOUR_MS);
+            return null;
+        });
+    }
+
+    @Scheduled(fixedDelay = TRENDING_REFRESH_MS)
+    public void refresh() {
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY, "1", Duration.ofMillis(TRENDING_REFRESH_MS));
+            if (Boolean.TRUE.equals(locked)) {
+                rebuild(System.currentTimeMillis());
+            }
+        } catch (Exception e) {
+            log.warn("[SEARCH_TREND] 합산 실패: {}", e.toString());
+        }
+
+        // 조회 실패 시 이전 캐시 유지
+        try {
+            trendingNow = readTop(NOW_KEY);
+            popularThisWeek = readTop(WEEK_KEY);
+        } catch (Exception e) {
+            log.warn("[SEARCH_TREND] Top 10 캐시 갱신 실패: {}", e.toString());
+        }
+    }
+
+    private void rebuild(long nowMs) {
+        // 급상승: 분 버킷, 나이(분)에 따라 지수 감쇠
+        long currentMinute = nowMs / MINUTE_MS;
+        List<String> minuteKeys = new ArrayList<>(TRENDING_MINUTE_BUCKETS);
+        double[] minuteWeights = new double[TRENDING_MINUTE_BUCKETS];
+        for (int age = 0; age < TRENDING_MINUTE_BUCKETS; age++) {
+            minuteKeys.add(minuteKey(currentMinute - age));
+            minuteWeights[age] = Math.pow(0.5, age / TRENDING_HALF_LIFE_MINUTES);
+        }
+        unionAndTrim(minuteKeys, Weights.of(minuteWeights), NOW_KEY);
+
+        // 주간: 시간 버킷 단순 합
+        long currentHour = nowMs / HOUR_MS;
+        List<String> hourKeys = new ArrayList<>(WEEKLY_HOUR_BUCKETS);
+        for (int age = 0; age < WEEKLY_HOUR_BUCKETS; age++) {
+            hourKeys.add(hourKey(currentHour - age));
+        }
+        unionAndTrim(hourKeys, Weights.fromSetCount(WEEKLY_HOUR_BUCKETS), WEEK_KEY);
+    }
+
+    // 합산 결과는 상위 TRENDING_STORE_MAX개만 보관, 합산 노드가 없어지면 만료
+    private void unionAndTrim(List<String> keys, Weights weights, String destKey) {
+        ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+        zSetOps.unionAndStore(keys.get(0), keys.subList(1, keys.size()), destKey, Aggregate.SUM, weights);
+        zSetOps.removeRange(destKey, 0, -(TRENDING_STORE_MAX + 1));
+        redisTemplate.expire(destKey, Duration.ofMillis(TRENDING_REFRESH_MS * 10));
+    }
+
+    private List<PopularKeywordResponse> readTop(String key) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, POPULAR_KEYWORDS_LIMIT - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<PopularKeywordResponse> result = new ArrayList<>(tuples.size());
+        int rank = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            result.add(PopularKeywordResponse.ofRedis(tuple.getValue(), tuple.getScore(), rank++));
+        }
+        return List.copyOf(result);
+    }
+
+    private static String minuteKey(long epochMinute) {
+        return TRENDING_KEY_PREFIX + "m:" + epochMinute;
+    }
+
+    private static String hourKey(long epochHour) {
+        return TRENDING_KEY_PREFIX + "h:" + epochHour;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
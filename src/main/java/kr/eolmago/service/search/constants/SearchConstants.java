@@ -7,19 +7,42 @@ public final class SearchConstants {
 
     // Redis Key 상수
     public static final String AUTOCOMPLETE_KEY = "autocomplete:all"; // 전체 자동완성
-    public static final String SEARCH_DEDUPE_PREFIX = "search:dedupe:";  // 중복 방지
 
     // ==== 자동완성 ====
     public static final int AUTOCOMPLETE_LIMIT = 10;        // 자동완성 결과 개수
-    public static final int AUTOCOMPLETE_REDIS_TOP = 20;    // Redis에서 가져올 상위 개수
     public static final int POPULAR_KEYWORDS_LIMIT = 10;    // 인기 검색어 개수
 
+    // ==== 자동완성 인덱스 (로컬) ====
+    public static final long AUTOCOMPLETE_REFRESH_MS = 5_000L;          // DB 증분 반영 주기
+    public static final long AUTOCOMPLETE_FULL_RELOAD_MS = 600_000L;    // 전체 재적재 주기 (삭제 반영)
+    public static final long AUTOCOMPLETE_REFRESH_OVERLAP_SECONDS = 30; // 늦게 커밋된 갱신 재조회 구간
+    public static final int AUTOCOMPLETE_LOAD_PAGE_SIZE = 1_000;        // 적재 페이지 크기
+    public static final int AUTOCOMPLETE_INDEX_MAX = 200_000;           // 인덱스 최대 검색어 수
+
     // ==== Redis 점수 계산 ====
     public static final int BRAND_WEIGHT = 100;             // 브랜드 키워드 가중치
     public static final double SEARCH_INCREMENT = 1.0;      // 검색 점수 증가량
 
-    // ==== 중복 방지 ====
-    public static final int SEARCH_DEDUPE_TTL_SECONDS = 10; // 중복 검색 방지 TTL (10초)
+    // ==== 급상승/주간 인기 검색어 (시간 버킷 ZSET) ====
+    public static final String TRENDING_KEY_PREFIX = "{search:trend}:";    // 해시 태그로 같은 슬롯 (ZUNIONSTORE)
+    public static final int TRENDING_MINUTE_BUCKETS = 60;                  // 급상승: 최근 60분, 분 단위 버킷
+    public static final double TRENDING_HALF_LIFE_MINUTES = 15.0;          // 급상승 가중치 반감기
+    public static final int WEEKLY_HOUR_BUCKETS = 168;                     // 주간: 최근 7일, 시간 단위 버킷
+    public static final long TRENDING_REFRESH_MS = 60_000L;                // 합산/Top 10 캐시 갱신 주기
+    public static final int TRENDING_STORE_MAX = 100;                      // 합산 결과 보관 개수
+
+    // ==== 중복 방지 (로컬 Bloom 필터) ====
+    public static final int SEARCH_DEDUPE_TTL_SECONDS = 10;     // 중복 검색 방지 윈도우 (10초, 직전 윈도우까지 확인)
+    public static final int SEARCH_DEDUPE_BLOOM_BITS = 1 << 20; // 윈도우당 비트 수 (128KB, 10만 건 기준 오탐 약 1%)
+    public static final int SEARCH_DEDUPE_BLOOM_HASHES = 7;     // 해시 함수 개수
+
+    // ==== 검색어 통계 쓰기 지연 ====
+    public static final long SEARCH_STATS_FLUSH_MS = 3_000L;    // DB/Redis 반영 주기
+    public static final int SEARCH_STATS_FLUSH_BATCH_SIZE = 500; // multi-row UPSERT 한 문장당 검색어 수
+    public static final int SEARCH_STATS_MAX_PENDING = 50_000;  // 반영 전 누적 검색어 최대 수 (초과분은 버림)
+
+    // ==== 오래된 검색어 정리 ====
+    public static final int KEYWORD_CLEANUP_BATCH_SIZE = 1_000;  // 한 트랜잭션에서 삭제할 검색어 수
 
     private SearchConstants() {
         throw new AssertionError("Cannot instantiate constants class");
@@ -3,6 +3,7 @@ package kr.eolmago.service.user;
 import kr.eolmago.domain.entity.user.User;
 import kr.eolmago.domain.entity.user.UserPenalty;
 import kr.eolmago.domain.entity.user.enums.UserStatus;
+import kr.eolmago.global.security.PrincipalCache;
 import kr.eolmago.repository.user.UserPenaltyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import java.util.List;
 public class UserPenaltyScheduler {
 
     private final UserPenaltyRepository userPenaltyRepository;
+    private final PrincipalCache principalCache;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
     @Transactional
@@ -37,6 +39,7 @@ public class UserPenaltyScheduler {
 
             if (!hasActivePenalty) {
                 user.updateStatus(UserStatus.ACTIVE);
+                principalCache.evictAfterCommit(user.getUserId());
                 log.info("유저 {} 정지 해제 완료", user.getUserId());
             }
         }
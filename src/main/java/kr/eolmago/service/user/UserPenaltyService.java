@@ -6,6 +6,7 @@ import kr.eolmago.domain.entity.user.User;
 import kr.eolmago.domain.entity.user.UserPenalty;
 import kr.eolmago.domain.entity.user.enums.PenaltyType;
 import kr.eolmago.domain.entity.user.enums.UserStatus;
+import kr.eolmago.global.security.PrincipalCache;
 import kr.eolmago.repository.user.UserPenaltyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import java.util.Optional;
 public class UserPenaltyService {
 
     private final UserPenaltyRepository userPenaltyRepository;
+    private final PrincipalCache principalCache;
 
     public void applyPenalty(User user, Report report, ReportAction action, String reason) {
         // 경고나 조치 없음은 별도의 Penalty 엔티티를 생성하지 않음 (필요 시 수정 가능)
@@ -50,6 +52,8 @@ public class UserPenaltyService {
             default -> throw new IllegalArgumentException("지원하지 않는 제재 유형입니다.");
         }
 
+        principalCache.evictAfterCommit(user.getUserId());
+
         UserPenalty penalty = UserPenalty.create(
                 user,
                 report,
@@ -7,6 +7,7 @@ import kr.eolmago.domain.entity.user.enums.UserRole;
 import kr.eolmago.dto.api.user.request.UpdateUserProfileRequest;
 import kr.eolmago.dto.api.user.response.UserProfileResponse;
 import kr.eolmago.global.security.CustomUserDetails;
+import kr.eolmago.global.security.PrincipalCache;
 import kr.eolmago.repository.deal.DealRepository;
 import kr.eolmago.repository.review.ReviewRepository;
 import kr.eolmago.repository.user.SocialLoginRepository;
@@ -38,6 +39,7 @@ public class UserProfileService {
     private final NotificationPublisher notificationPublisher;
     private final DealRepository dealRepository;
     private final ReviewRepository reviewRepository;
+    private final PrincipalCache principalCache;
 
     @Transactional(readOnly = true)
     public UserProfileResponse getUserProfile(UUID userId) {
@@ -89,6 +91,7 @@ public class UserProfileService {
         );
 
         userProfileRepository.save(userProfile);
+        principalCache.evictAfterCommit(userId);
         log.info("프로필 DB 업데이트 완료: userId={}", userId);
 
         // 세션 정보 업데이트
@@ -156,6 +159,7 @@ public class UserProfileService {
         User user = userProfile.getUser();
         if (user.getRole() == UserRole.GUEST) {
             user.updateRole(UserRole.USER);
+            principalCache.evictAfterCommit(userId);
             log.info("사용자 역할 변경: userId={}, newRole=USER", userId);
 
             notificationPublisher.publish(
@@ -6,6 +6,7 @@ import kr.eolmago.domain.entity.user.UserProfile;
 import kr.eolmago.domain.entity.user.enums.UserRole;
 import kr.eolmago.domain.entity.user.enums.UserStatus;
 import kr.eolmago.global.security.CustomUserDetails;
+import kr.eolmago.global.security.PrincipalCache;
 import kr.eolmago.repository.user.SocialLoginRepository;
 import kr.eolmago.repository.user.UserProfileRepository;
 import kr.eolmago.repository.user.UserRepository;
@@ -26,6 +27,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final SocialLoginRepository socialLoginRepository;
     private final UserProfileRepository userProfileRepository; // UserProfileRepository 추가
+    private final PrincipalCache principalCache;
 
     @Transactional(readOnly = true)
     public User getUserById(UUID userId) {
@@ -71,6 +73,7 @@ public class UserService {
         }
 
         targetUser.updateRole(newRole);
+        principalCache.evictAfterCommit(targetUserId);
 
         log.info("사용자 역할 변경: adminId={}, targetUserId={}, role={}",
                 adminId, targetUserId, newRole);
@@ -84,6 +87,7 @@ public class UserService {
         validateStatusNotAlready(targetUser, UserStatus.SUSPENDED, "이미 정지된 사용자입니다.");
 
         targetUser.updateStatus(UserStatus.SUSPENDED);
+        principalCache.evictAfterCommit(targetUserId);
 
         log.info("사용자 계정 정지: adminId={}, targetUserId={}", adminId, targetUserId);
     }
@@ -96,6 +100,7 @@ public class UserService {
         validateStatusNotAlready(targetUser, UserStatus.BANNED, "이미 차단된 사용자입니다.");
 
         targetUser.updateStatus(UserStatus.BANNED);
+        principalCache.evictAfterCommit(targetUserId);
 
         log.info("사용자 계정 차단: adminId={}, targetUserId={}", adminId, targetUserId);
     }
@@ -108,6 +113,7 @@ public class UserService {
         validateStatusNotAlready(targetUser, UserStatus.ACTIVE, "이미 활성화된 사용자입니다.");
 
         targetUser.updateStatus(UserStatus.ACTIVE);
+        principalCache.evictAfterCommit(targetUserId);
 
         log.info("사용자 계정 활성화: adminId={}, targetUserId={}", adminId, targetUserId);
     }
@@ -120,6 +126,7 @@ public class UserService {
         }
 
         user.updateStatus(UserStatus.ACTIVE);
+        principalCache.evictAfterCommit(userId);
 
         log.info("사용자 자동 활성화: userId={}", userId);
     }
@@ -27,6 +27,10 @@ import { calcBidIncrement } from "./util.js";
         ui.renderAll(data, serverNowMs, api);
         ui.bindInteractions(data, api);
 
+        if (String(data?.status ?? "") === "LIVE") {
+            subscribeLive(auctionId, ui, api);
+        }
+
         // 비슷한 경매 로드
         try {
             const brand = data?.specs?.brand || null;
@@ -45,3 +49,29 @@ import { calcBidIncrement } from "./util.js";
         ui.setLoading(false);
     }
 })();
+
+// 가격/연장 실시간 구독, 연결 실패 시 기존처럼 입찰 후 재조회만 사용
+function subscribeLive(auctionId, ui, api) {
+    if (typeof SockJS === "undefined" || typeof Stomp === "undefined") return;
+
+    try {
+        const stompClient = Stomp.over(new SockJS("/ws"));
+        stompClient.debug = null;
+
+        stompClient.connect({}, () => {
+            stompClient.subscribe(`/topic/auctions.${auctionId}`, (frame) => {
+                try {
+                    ui.applyLiveUpdate(JSON.parse(frame.body), api);
+                } catch (e) {
+                    console.warn("실시간 가격 갱신 실패", e);
+                }
+            });
+        }, () => {});
+
+        window.addEventListener("beforeunload", () => {
+            try { stompClient.disconnect(() => {}); } catch (_) {}
+        });
+    } catch (e) {
+        console.warn("실시간 가격 연결 실패", e);
+    }
+}
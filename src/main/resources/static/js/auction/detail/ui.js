@@ -126,6 +126,9 @@ export class Ui {
         // countdown stopper
         this.stopCountdown = null;
 
+        // server clock offset (live update countdown)
+        this.serverOffsetMs = 0;
+
         // bind once
         this._thumbNavBound = false;
 
@@ -366,6 +369,46 @@ export class Ui {
         if (this.auctionIdShort) this.auctionIdShort.textContent = shortUuid(data?.auctionId);
     }
 
+    // /topic/auctions.{id} 실시간 갱신 반영 (null 필드는 기존 값 유지)
+    applyLiveUpdate(update, api) {
+        const d = this.data;
+        if (!d || !update || String(d?.status ?? "") !== "LIVE") return;
+
+        const prevEndAtMs = parseOffsetDateTimeToMs(d?.endAt);
+        const next = { ...d };
+
+        if (update.currentPrice !== null && update.currentPrice !== undefined) {
+            if (Number(update.currentPrice) < Number(d?.currentPrice ?? 0)) return;
+            next.currentPrice = update.currentPrice;
+            next.bidIncrement = calcBidIncrement(Number(update.currentPrice));
+        }
+        if (update.bidCount !== null && update.bidCount !== undefined) next.bidCount = update.bidCount;
+        if (update.highestBidderId) next.highestBidderId = update.highestBidderId;
+        if (update.endAt) next.endAt = update.endAt;
+
+        this.data = next;
+
+        this.renderRightPanel(next);
+        this.applyHighestUi(next);
+
+        // 입력 중인 금액이 새 최소 입찰가보다 낮을 때만 기본값으로 되돌림
+        const minBid = this.computeMinBid(next);
+        const typed = Number(String(this.bidInput?.value ?? "").replace(/[^0-9]/g, ""));
+        if (!typed || typed < minBid) {
+            this.prepareBidDefaults(next);
+        } else if (this.bidHint) {
+            this.bidHint.textContent = `(최소 ${formatNumber(minBid)}원 이상)`;
+        }
+
+        const nextEndAtMs = parseOffsetDateTimeToMs(next?.endAt);
+        if (nextEndAtMs && nextEndAtMs !== prevEndAtMs) {
+            this.startAccurateCountdown(next, Date.now() + (this.serverOffsetMs ?? 0), api);
+        }
+        if (next.currentPrice !== d.currentPrice) {
+            this.flashPriceCard();
+        }
+    }
+
     renderDetail(data) {
         if (this.detailItemName) this.detailItemName.textContent = safeText(data?.itemName);
         if (this.detailCondition) this.detailCondition.textContent = resolveLabel("condition", data?.condition);
@@ -412,6 +455,7 @@ export class Ui {
         }
 
         const offsetMs = computeOffsetMsFromServerNow(serverNowMs);
+        this.serverOffsetMs = offsetMs;
         const getNowMs = () => Date.now() + offsetMs;
 
         if (this.stopCountdown) this.stopCountdown();
@@ -0,0 +1,128 @@
+package kr.eolmago.auction.book;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import kr.eolmago.domain.entity.auction.Auction;
+import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
+import kr.eolmago.domain.entity.user.User;
+import kr.eolmago.global.exception.BusinessException;
+import kr.eolmago.global.exception.ErrorCode;
+import kr.eolmago.service.auction.book.AcceptedBid;
+import kr.eolmago.service.auction.book.AuctionPriceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuctionPriceStateTest {
+
+    private static final UUID SELLER_ID = UUID.randomUUID();
+    private static final UUID BUYER_A = UUID.randomUUID();
+    private static final UUID BUYER_B = UUID.randomUUID();
+
+    private OffsetDateTime now;
+    private AuctionPriceState sut;
+
+    @BeforeEach
+    void setUp() {
+        now = OffsetDateTime.now();
+        sut = AuctionPriceState.of(liveAuction(now.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("최소 입찰가 이상이면 현재가와 최고 입찰자가 갱신된다")
+    void givenValidAmount_whenAccept_thenStateUpdated() {
+        // when
+        AcceptedBid first = sut.accept(BUYER_A, 11_000, "req-1", now);
+        AcceptedBid second = sut.accept(BUYER_B, 12_000, "req-2", now);
+
+        // then
+        assertThat(first.prevHighestBidderId()).isNull();
+        assertThat(second.prevHighestBidderId()).isEqualTo(BUYER_A);
+        assertThat(second.minAcceptableAmount()).isEqualTo(13_000);
+        assertThat(sut.getCurrentPrice()).isEqualTo(12_000);
+        assertThat(sut.getBidCount()).isEqualTo(2);
+        assertThat(sut.getHighestBidderId()).isEqualTo(BUYER_B);
+    }
+
+    @Test
+    @DisplayName("최소 입찰가 미만이면 거절되고 상태는 바뀌지 않는다")
+    void givenLowAmount_whenAccept_thenRejected() {
+        // when & then
+        assertThatThrownBy(() -> sut.accept(BUYER_A, 10_500, "req-1", now))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.BID_INVALID_AMOUNT);
+
+        assertThat(sut.getCurrentPrice()).isEqualTo(10_000);
+        assertThat(sut.getBidCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("판매자 본인 입찰은 거절된다")
+    void givenSeller_whenAccept_thenRejected() {
+        // when & then
+        assertThatThrownBy(() -> sut.accept(SELLER_ID, 11_000, "req-1", now))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.SELLER_CANNOT_BID);
+    }
+
+    @Test
+    @DisplayName("마감 직전 입찰이면 종료 시각이 연장된다")
+    void givenBidNearEnd_whenAccept_thenExtended() {
+        // given
+        OffsetDateTime endAt = now.plusSeconds(30);
+        AuctionPriceState closing = AuctionPriceState.of(liveAuction(endAt));
+
+        // when
+        AcceptedBid accepted = closing.accept(BUYER_A, 11_000, "req-1", now);
+
+        // then
+        assertThat(accepted.extensionApplied()).isTrue();
+        assertThat(accepted.endAt()).isAfter(endAt);
+        assertThat(closing.getEndAt()).isEqualTo(accepted.endAt());
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지난 경매는 마감 처리 전이어도 입찰을 거절한다")
+    void givenPastEndAt_whenAccept_thenRejected() {
+        // given
+        AuctionPriceState expired = AuctionPriceState.of(liveAuction(now.minusSeconds(1)));
+
+        // when & then
+        assertThatThrownBy(() -> expired.accept(BUYER_A, 11_000, "req-1", now))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.AUCTION_NOT_LIVE);
+
+        assertThat(expired.getCurrentPrice()).isEqualTo(10_000);
+        assertThat(expired.getBidCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("LIVE가 아닌 경매는 장부에 올리지 않는다")
+    void givenEndedAuction_whenOf_thenRejected() {
+        // given
+        Auction ended = auction(AuctionStatus.ENDED_UNSOLD, now.minusMinutes(1));
+
+        // when & then
+        assertThatThrownBy(() -> AuctionPriceState.of(ended))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.AUCTION_NOT_LIVE);
+    }
+
+    private Auction liveAuction(OffsetDateTime endAt) {
+        return auction(AuctionStatus.LIVE, endAt);
+    }
+
+    private Auction auction(AuctionStatus status, OffsetDateTime endAt) {
+        User seller = mock(User.class);
+        given(seller.getUserId()).willReturn(SELLER_ID);
+        return Auction.create(null, seller, "title", "desc", status, 10_000, 1_000, 24, now.minusHours(23), endAt);
+    }
+}
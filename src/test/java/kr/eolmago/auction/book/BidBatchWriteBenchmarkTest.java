@@ -0,0 +1,129 @@
+package kr.eolmago.auction.book;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import kr.eolmago.domain.entity.auction.Auction;
+import kr.eolmago.domain.entity.auction.AuctionItem;
+import kr.eolmago.domain.entity.auction.enums.AuctionStatus;
+import kr.eolmago.domain.entity.auction.enums.ItemCategory;
+import kr.eolmago.domain.entity.auction.enums.ItemCondition;
+import kr.eolmago.domain.entity.user.User;
+import kr.eolmago.domain.entity.user.enums.UserRole;
+import kr.eolmago.repository.auction.AuctionItemRepository;
+import kr.eolmago.repository.auction.AuctionRepository;
+import kr.eolmago.repository.user.UserRepository;
+import kr.eolmago.service.auction.BidCommandService;
+import kr.eolmago.service.auction.book.AcceptedBid;
+import kr.eolmago.service.auction.book.AuctionPriceState;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 입찰 DB 반영 처리량 비교 벤치마크
+ *
+ * 목적:
+ * - 건별 createBid(FOR UPDATE) 대비 persistAcceptedBids(JDBC batch + 경매별 UPDATE 1회) 처리량 측정
+ *
+ * 주의:
+ * - 실제 PostgreSQL 연결 필요, 기본 test 태스크에서는 제외 (./gradlew benchmark)
+ * - 테스트 트랜잭션은 롤백되므로 커밋 비용은 제외된 보수적인 비교
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class BidBatchWriteBenchmarkTest {
+
+    private static final int AUCTIONS = 10;
+    private static final int BIDS_PER_AUCTION = 200;
+    private static final int BATCH_SIZE = 200;
+
+    @Autowired
+    private BidCommandService bidCommandService;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("배치 반영이 건별 반영보다 처리량이 높다")
+    void batchWrite_outperformsPerRecord() {
+        // given
+        User seller = userRepository.save(User.create(UserRole.USER));
+        List<User> buyers = List.of(
+            userRepository.save(User.create(UserRole.USER)),
+            userRepository.save(User.create(UserRole.USER))
+        );
+        List<Auction> perRecordAuctions = createAuctions(seller);
+        List<Auction> batchAuctions = createAuctions(seller);
+        auctionRepository.flush();
+
+        // when: 건별
+        long perRecordStart = System.nanoTime();
+        for (int round = 1; round <= BIDS_PER_AUCTION; round++) {
+            UUID buyerId = buyers.get(round % 2).getUserId();
+            for (Auction auction : perRecordAuctions) {
+                bidCommandService.createBid(auction.getAuctionId(), buyerId, 10_000 + round * 1_000, UUID.randomUUID().toString());
+            }
+        }
+        long perRecordNanos = System.nanoTime() - perRecordStart;
+
+        // when: 가격 장부 + 배치
+        List<AuctionPriceState> states = batchAuctions.stream()
+            .map(a -> bidCommandService.loadPriceState(a.getAuctionId()))
+            .toList();
+
+        long batchStart = System.nanoTime();
+        List<AcceptedBid> pending = new ArrayList<>(BATCH_SIZE);
+        for (int round = 1; round <= BIDS_PER_AUCTION; round++) {
+            UUID buyerId = buyers.get(round % 2).getUserId();
+            for (AuctionPriceState state : states) {
+                pending.add(state.accept(buyerId, 10_000 + round * 1_000, UUID.randomUUID().toString(), OffsetDateTime.now()));
+                if (pending.size() == BATCH_SIZE) {
+                    bidCommandService.persistAcceptedBids(pending);
+                    pending = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            bidCommandService.persistAcceptedBids(pending);
+        }
+        long batchNanos = System.nanoTime() - batchStart;
+
+        // then
+        int total = AUCTIONS * BIDS_PER_AUCTION;
+        double perRecordTps = total / (perRecordNanos / 1e9);
+        double batchTps = total / (batchNanos / 1e9);
+        log.info("[BENCHMARK] bids={}, perRecord={} bids/s, batch={} bids/s, speedup={}x",
+            total, Math.round(perRecordTps), Math.round(batchTps), String.format("%.1f", batchTps / perRecordTps));
+
+        assertThat(batchTps).isGreaterThan(perRecordTps);
+    }
+
+    private List<Auction> createAuctions(User seller) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Auction> auctions = new ArrayList<>();
+        for (int i = 0; i < AUCTIONS; i++) {
+            AuctionItem item = auctionItemRepository.save(
+                AuctionItem.create("bench-" + i, ItemCategory.PHONE, ItemCondition.A, null)
+            );
+            auctions.add(auctionRepository.save(Auction.create(
+                item, seller, "bench-" + i, "benchmark", AuctionStatus.LIVE,
+                10_000, 1_000, 24, now.minusHours(1), now.plusHours(23)
+            )));
+        }
+        return auctions;
+    }
+}
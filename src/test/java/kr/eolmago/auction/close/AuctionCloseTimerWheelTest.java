@@ -0,0 +1,71 @@
+package kr.eolmago.auction.close;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import kr.eolmago.service.auction.close.AuctionCloseTimerWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuctionCloseTimerWheelTest {
+
+    private AuctionCloseTimerWheel sut;
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지나면 만료 콜백이 한 번 호출된다")
+    void givenDeadline_whenElapsed_thenExpiredOnce() throws Exception {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        List<UUID> expired = new CopyOnWriteArrayList<>();
+        sut = new AuctionCloseTimerWheel(10, 8, (id, deadline) -> {
+            expired.add(id);
+            latch.countDown();
+        });
+        UUID auctionId = UUID.randomUUID();
+
+        // when: 한 바퀴(80ms)를 넘는 마감
+        sut.add(auctionId, System.currentTimeMillis() + 150);
+        sut.add(auctionId, System.currentTimeMillis() + 150);
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(expired).containsExactly(auctionId);
+    }
+
+    @Test
+    @DisplayName("마감 시각이 바뀌면 이전 시각의 항목은 만료되지 않는다")
+    void givenRescheduled_whenOldDeadlineElapsed_thenSkipped() throws Exception {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Long> deadlines = new CopyOnWriteArrayList<>();
+        sut = new AuctionCloseTimerWheel(10, 64, (id, deadline) -> {
+            deadlines.add(deadline);
+            latch.countDown();
+        });
+        UUID auctionId = UUID.randomUUID();
+        long first = System.currentTimeMillis() + 50;
+        long extended = first + 200;
+
+        // when
+        sut.add(auctionId, first);
+        sut.add(auctionId, extended);
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(deadlines).containsExactly(extended);
+    }
+}
@@ -0,0 +1,92 @@
+package kr.eolmago.auction.stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import kr.eolmago.service.auction.stream.BidProcessingResult;
+import kr.eolmago.service.auction.stream.BidResultNotifier;
+import kr.eolmago.service.auction.stream.BidResultStore;
+import kr.eolmago.service.auction.stream.BidStreamProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class BidResultNotifierTest {
+
+    private static final String RESULT_KEY = "bid:result:buyer:req-0001";
+
+    private StringRedisTemplate redisTemplate;
+    private BidResultStore bidResultStore;
+    private BidStreamProperties props;
+    private BidResultNotifier sut;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        bidResultStore = mock(BidResultStore.class);
+        props = new BidStreamProperties();
+        sut = new BidResultNotifier(redisTemplate, mock(RedisMessageListenerContainer.class), bidResultStore, props);
+    }
+
+    @Test
+    @DisplayName("로컬 대기자가 있으면 Pub/Sub 없이 바로 완료된다")
+    void givenLocalWaiter_whenNotify_thenCompleteWithoutPublish() {
+        // given
+        CompletableFuture<BidProcessingResult> waiter = sut.register(RESULT_KEY);
+        BidProcessingResult result = BidProcessingResult.error("BID_INVALID_AMOUNT", null);
+
+        // when
+        sut.notifyCompleted(RESULT_KEY, result);
+
+        // then
+        assertThat(waiter).isCompletedWithValue(result);
+        then(redisTemplate).should(never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로컬 대기자가 없으면 다른 노드에 결과키를 발행한다")
+    void givenNoLocalWaiter_whenNotify_thenPublishResultKey() {
+        // when
+        sut.notifyCompleted(RESULT_KEY, BidProcessingResult.error("BID_INVALID_AMOUNT", null));
+
+        // then
+        then(redisTemplate).should().convertAndSend(props.getResultChannel(), RESULT_KEY);
+    }
+
+    @Test
+    @DisplayName("다른 노드 알림을 받으면 저장된 결과로 대기자를 깨운다")
+    void givenRemoteMessage_whenOnMessage_thenCompleteFromStore() {
+        // given
+        CompletableFuture<BidProcessingResult> waiter = sut.register(RESULT_KEY);
+        BidProcessingResult result = BidProcessingResult.error("AUCTION_NOT_LIVE", null);
+        given(bidResultStore.get(RESULT_KEY)).willReturn(result);
+
+        // when
+        sut.onMessage(new DefaultMessage(
+            props.getResultChannel().getBytes(StandardCharsets.UTF_8),
+            RESULT_KEY.getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        // then
+        assertThat(waiter).isCompletedWithValue(result);
+    }
+
+    @Test
+    @DisplayName("대기자가 없는 결과키 알림은 Redis 조회 없이 무시한다")
+    void givenUnknownKey_whenOnMessage_thenIgnore() {
+        // when
+        sut.onMessage(new DefaultMessage(
+            props.getResultChannel().getBytes(StandardCharsets.UTF_8),
+            RESULT_KEY.getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        // then
+        then(bidResultStore).shouldHaveNoInteractions();
+    }
+}
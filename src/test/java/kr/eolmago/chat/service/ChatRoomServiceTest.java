@@ -5,7 +5,11 @@ import static org.mockito.Mockito.*;
 
 import kr.eolmago.domain.entity.chat.ChatRoom;
 import kr.eolmago.global.exception.ErrorCode;
+import kr.eolmago.repository.chat.ChatInboxRepository;
 import kr.eolmago.repository.chat.ChatMessageRepository;
+import kr.eolmago.service.chat.ChatReadReceiptBuffer;
+import kr.eolmago.service.chat.ChatRecentMessageCache;
+import kr.eolmago.service.chat.ChatRoomParticipantCache;
 import kr.eolmago.service.chat.ChatService;
 import kr.eolmago.service.chat.ChatStreamPublisher;
 import kr.eolmago.service.chat.ChatSystemUserProvider;
@@ -36,12 +40,16 @@ class ChatRoomServiceTest {
 		sut = new ChatService(
 			doubles.chatRoomRepository,
 			chatMessageRepository,
+			mock(ChatInboxRepository.class),
 			doubles.auctionRepository,
 			doubles.userRepository,
 			chatStreamPublisher,
 			chatValidator,
 			systemUserProvider,
-			notificationPublisher
+			notificationPublisher,
+			mock(ChatRoomParticipantCache.class),
+			mock(ChatRecentMessageCache.class),
+			mock(ChatReadReceiptBuffer.class)
 		);
 	}
 
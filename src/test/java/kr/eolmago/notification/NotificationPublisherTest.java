@@ -6,8 +6,10 @@ import static org.mockito.BDDMockito.*;
 import java.util.UUID;
 
 import kr.eolmago.domain.entity.notification.Notification;
+import kr.eolmago.domain.entity.notification.NotificationOutbox;
 import kr.eolmago.domain.entity.user.User;
 import kr.eolmago.dto.api.notification.response.NotificationResponse;
+import kr.eolmago.repository.notification.NotificationOutboxRepository;
 import kr.eolmago.repository.notification.NotificationRepository;
 import kr.eolmago.repository.user.UserRepository;
 import kr.eolmago.service.notification.NotificationSseHub;
@@ -26,12 +28,14 @@ class NotificationPublisherTest {
 	void givenCommand_whenPublish_thenSavePushAndPublishEvent() {
 		// given
 		NotificationRepository notificationRepository = mock(NotificationRepository.class);
+		NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
 		UserRepository userRepository = mock(UserRepository.class);
 		NotificationSseHub sseHub = mock(NotificationSseHub.class);
 		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
 
 		NotificationPublisher sut = new NotificationPublisher(
 			notificationRepository,
+			outboxRepository,
 			userRepository,
 			sseHub,
 			eventPublisher
@@ -61,4 +65,43 @@ class NotificationPublisherTest {
 		assertThat(e.title()).isEqualTo(cmd.title());
 		assertThat(e.body()).isEqualTo(cmd.body());
 	}
+
+	@Test
+	@DisplayName("알림 적재: outbox에만 기록하고 저장/SSE/이벤트는 하지 않음")
+	void givenCommand_whenEnqueue_thenOnlySaveOutbox() {
+		// given
+		NotificationRepository notificationRepository = mock(NotificationRepository.class);
+		NotificationOutboxRepository outboxRepository = mock(NotificationOutboxRepository.class);
+		UserRepository userRepository = mock(UserRepository.class);
+		NotificationSseHub sseHub = mock(NotificationSseHub.class);
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+		NotificationPublisher sut = new NotificationPublisher(
+			notificationRepository,
+			outboxRepository,
+			userRepository,
+			sseHub,
+			eventPublisher
+		);
+
+		UUID userId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+		UUID auctionId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+		NotificationPublishCommand cmd = NotificationPublishCommand.bidOutbid(userId, auctionId);
+
+		// when
+		sut.enqueue(cmd);
+
+		// then
+		ArgumentCaptor<NotificationOutbox> outboxCaptor = ArgumentCaptor.forClass(NotificationOutbox.class);
+		then(outboxRepository).should().save(outboxCaptor.capture());
+
+		NotificationOutbox saved = outboxCaptor.getValue();
+		assertThat(saved.getUserId()).isEqualTo(userId);
+		assertThat(saved.getType()).isEqualTo(cmd.type());
+		assertThat(saved.getRelatedEntityId()).isEqualTo(auctionId.toString());
+
+		then(notificationRepository).shouldHaveNoInteractions();
+		then(sseHub).shouldHaveNoInteractions();
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
 }
@@ -25,6 +25,7 @@ class NotificationServiceTest {
 			doubles.notificationValidator,
 			doubles.notificationMapper,
 			doubles.sseHub,
+			doubles.unreadCounter,
 			doubles.clock
 		);
 	}
@@ -48,6 +49,19 @@ class NotificationServiceTest {
 		assertThat(captor.getValue()).isNotNull();
 	}
 
+	@Test
+	@DisplayName("알림 1건 읽음 처리: 안 읽은 알림이면 안 읽은 수 1 감소")
+	void givenUnreadNotification_whenReadOne_thenDecreaseUnreadCount() {
+		// Given
+		NotificationScenario s = given().notificationExists();
+
+		// When
+		sut.readOne(s.userId, s.notificationId);
+
+		// Then
+		verify(doubles.unreadCounter).adjustAfterCommit(s.userId, -1);
+	}
+
 	@Test
 	@DisplayName("알림 1건 읽음 처리: 없으면 NOT_FOUND")
 	void givenNotificationMissing_whenReadOne_thenThrowNotFound() {
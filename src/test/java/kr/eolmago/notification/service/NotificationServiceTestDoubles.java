@@ -9,6 +9,7 @@ import java.time.ZoneOffset;
 import kr.eolmago.repository.notification.NotificationRepository;
 import kr.eolmago.service.notification.NotificationMapper;
 import kr.eolmago.service.notification.NotificationSseHub;
+import kr.eolmago.service.notification.NotificationUnreadCounter;
 import kr.eolmago.service.notification.NotificationValidator;
 
 final class NotificationServiceTestDoubles {
@@ -19,6 +20,7 @@ final class NotificationServiceTestDoubles {
 
 	final NotificationMapper notificationMapper = mock(NotificationMapper.class);
 	final NotificationSseHub sseHub = mock(NotificationSseHub.class);
+	final NotificationUnreadCounter unreadCounter = mock(NotificationUnreadCounter.class);
 
 	final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
 
@@ -1,21 +1,32 @@
 package kr.eolmago.scheduler;
 
-import kr.eolmago.domain.entity.search.SearchKeyword;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.eolmago.repository.search.SearchKeywordRepository;
+import kr.eolmago.service.search.KeywordAutocompleteIndex;
 import kr.eolmago.service.search.SearchKeywordScheduler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -29,61 +40,92 @@ class SearchKeywordSchedulerTest {
     private SearchKeywordRepository searchKeywordRepository;
 
     @Mock
-    private SearchKeyword keyword;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private KeywordAutocompleteIndex keywordAutocompleteIndex;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
 
     @Test
-    @DisplayName("비활성 검색 키워드가 있으면 삭제 처리된다")
+    @DisplayName("비활성 검색 키워드가 있으면 삭제하고 Redis/자동완성 인덱스에서도 제거한다")
     void cleanupInactiveKeywords_Success() {
         // given
-        given(searchKeywordRepository.findInactiveKeywords(any(OffsetDateTime.class), anyInt()))
-                .willReturn(List.of(keyword));
-
-        given(keyword.getKeyword()).willReturn("test");
-        given(keyword.getSearchCount()).willReturn(3);
-        given(keyword.getLastSearchedAt()).willReturn(OffsetDateTime.now().minusMonths(4));
+        given(searchKeywordRepository.deleteInactiveKeywords(any(OffsetDateTime.class), anyInt(), anyInt()))
+                .willReturn(List.of("test"));
 
         // when
         searchKeywordScheduler.cleanupInactiveKeywords();
 
         // then
-        verify(searchKeywordRepository, times(1)).delete(keyword);
+        verify(searchKeywordRepository, times(1)).deleteInactiveKeywords(any(OffsetDateTime.class), eq(5), anyInt());
+        verify(zSetOperations, times(1)).remove("autocomplete:all", "test");
+        verify(keywordAutocompleteIndex, times(1)).removeAll(List.of("test"));
+        assertThat(meterRegistry.counter("search.keyword.cleanup.deleted").count()).isEqualTo(1.0);
     }
 
     @Test
     @DisplayName("비활성 검색 키워드가 없으면 아무 작업도 하지 않는다")
     void cleanupInactiveKeywords_NoKeywords() {
         // given
-        given(searchKeywordRepository.findInactiveKeywords(any(OffsetDateTime.class), anyInt()))
+        given(searchKeywordRepository.deleteInactiveKeywords(any(OffsetDateTime.class), anyInt(), anyInt()))
                 .willReturn(Collections.emptyList());
 
         // when
         searchKeywordScheduler.cleanupInactiveKeywords();
 
         // then
-        verify(searchKeywordRepository, never()).delete(any(SearchKeyword.class));
+        verifyNoInteractions(zSetOperations);
+        verify(keywordAutocompleteIndex, never()).removeAll(any());
     }
 
     @Test
-    @DisplayName("키워드 삭제 중 예외가 발생해도 다른 키워드 처리에 영향을 주지 않는다")
-    void cleanupInactiveKeywords_ExceptionHandling() {
+    @DisplayName("청크가 가득 차면 다음 청크를 이어서 삭제하고, Redis 실패는 다음 청크 처리에 영향을 주지 않는다")
+    void cleanupInactiveKeywords_Chunked() {
         // given
-        SearchKeyword keyword1 = mock(SearchKeyword.class);
-        SearchKeyword keyword2 = mock(SearchKeyword.class);
+        List<String> fullChunk = IntStream.range(0, 1_000).mapToObj(i -> "k" + i).toList();
+        given(searchKeywordRepository.deleteInactiveKeywords(any(OffsetDateTime.class), anyInt(), anyInt()))
+                .willReturn(fullChunk, List.of("last"));
+        given(zSetOperations.remove(eq("autocomplete:all"), any(Object[].class)))
+                .willThrow(new RuntimeException("Error"))
+                .willReturn(1L);
 
-        given(searchKeywordRepository.findInactiveKeywords(any(OffsetDateTime.class), anyInt()))
-                .willReturn(List.of(keyword1, keyword2));
+        // when
+        searchKeywordScheduler.cleanupInactiveKeywords();
 
-        given(keyword1.getKeyword()).willReturn("test1");
-        given(keyword2.getKeyword()).willReturn("test2");
+        // then
+        verify(searchKeywordRepository, times(2)).deleteInactiveKeywords(any(OffsetDateTime.class), anyInt(), anyInt());
+        verify(keywordAutocompleteIndex, times(1)).removeAll(fullChunk);
+        verify(keywordAutocompleteIndex, times(1)).removeAll(List.of("last"));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
 
-        // keyword1 삭제 시 예외 발생
-        doThrow(new RuntimeException("Error")).when(searchKeywordRepository).delete(keyword1);
+    @Test
+    @DisplayName("청크 삭제 중 예외가 발생하면 중단하고 다음 실행으로 넘긴다")
+    void cleanupInactiveKeywords_ExceptionHandling() {
+        // given
+        given(searchKeywordRepository.deleteInactiveKeywords(any(OffsetDateTime.class), anyInt(), anyInt()))
+                .willThrow(new RuntimeException("Error"));
 
         // when
         searchKeywordScheduler.cleanupInactiveKeywords();
 
         // then
-        verify(searchKeywordRepository, times(1)).delete(keyword1);
-        verify(searchKeywordRepository, times(1)).delete(keyword2); // keyword1 실패와 무관하게 keyword2는 실행되어야 함
+        verify(searchKeywordRepository, times(1)).deleteInactiveKeywords(any(OffsetDateTime.class), anyInt(), anyInt());
+        verify(keywordAutocompleteIndex, never()).removeAll(any());
     }
-}
\ No newline at end of file
+}
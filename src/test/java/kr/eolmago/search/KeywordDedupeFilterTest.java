@@ -0,0 +1,42 @@
+package kr.eolmago.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import kr.eolmago.service.search.KeywordDedupeFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeywordDedupeFilterTest {
+
+    private static final long WINDOW_MS = 10_000L;
+
+    private KeywordDedupeFilter sut;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        sut = new KeywordDedupeFilter(1 << 16, 7, WINDOW_MS);
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    @DisplayName("같은 윈도우에서 다시 들어온 키는 중복으로 판단한다")
+    void givenSameKey_whenCheckAndAdd_thenDuplicate() {
+        // when & then
+        assertThat(sut.checkAndAdd("아이폰:user-1", now)).isFalse();
+        assertThat(sut.checkAndAdd("아이폰:user-1", now + 1_000)).isTrue();
+        assertThat(sut.checkAndAdd("아이폰:user-2", now + 1_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("직전 윈도우까지는 중복, 두 윈도우가 지나면 다시 기록된다")
+    void givenWindowsElapsed_whenCheckAndAdd_thenExpired() {
+        // given
+        sut.checkAndAdd("갤럭시:user-1", now);
+
+        // when & then
+        assertThat(sut.checkAndAdd("갤럭시:user-1", now + WINDOW_MS)).isTrue();
+        assertThat(sut.checkAndAdd("갤럭시:user-1", now + WINDOW_MS * 3)).isFalse();
+    }
+}
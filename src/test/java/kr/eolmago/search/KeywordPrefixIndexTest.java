@@ -0,0 +1,81 @@
+package kr.eolmago.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import kr.eolmago.global.util.ChosungUtils;
+import kr.eolmago.service.search.KeywordPrefixIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeywordPrefixIndexTest {
+
+    private KeywordPrefixIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new KeywordPrefixIndex(ChosungUtils::decompose);
+        sut.put("아이폰", 10, 110);
+        sut.put("아이폰 15", 30, 130);
+        sut.put("아이패드", 20, 20);
+        sut.put("갤럭시", 50, 150);
+    }
+
+    @Test
+    @DisplayName("prefix로 시작하는 검색어만 점수 내림차순으로 반환한다")
+    void givenPrefix_whenTop_thenOrderedByScore() {
+        // when
+        List<KeywordPrefixIndex.Entry> result = sut.top("아이", 10);
+
+        // then
+        assertThat(result).extracting(KeywordPrefixIndex.Entry::keyword)
+            .containsExactly("아이폰 15", "아이폰", "아이패드");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(낱자/받침으로 붙은 초성)도 prefix로 매칭된다")
+    void givenPartialSyllable_whenTop_thenMatched() {
+        // when & then
+        assertThat(sut.top("아이ㅍ", 10)).extracting(KeywordPrefixIndex.Entry::keyword)
+            .containsExactly("아이폰 15", "아이폰", "아이패드");
+        assertThat(sut.top("아잎", 10)).extracting(KeywordPrefixIndex.Entry::keyword)
+            .containsExactly("아이폰 15", "아이폰", "아이패드");
+        assertThat(sut.top("아이포", 10)).extracting(KeywordPrefixIndex.Entry::keyword)
+            .containsExactly("아이폰 15", "아이폰");
+    }
+
+    @Test
+    @DisplayName("검색 반영과 삭제가 다음 조회에 적용된다")
+    void givenHitAndRemove_whenTop_thenUpdated() {
+        // when
+        sut.recordHit("아이패드", 1);
+        sut.remove("아이폰 15");
+
+        // then
+        List<KeywordPrefixIndex.Entry> result = sut.top("아이", 1);
+        assertThat(result).singleElement()
+            .satisfies(e -> {
+                assertThat(e.keyword()).isEqualTo("아이폰");
+                assertThat(e.searchCount()).isEqualTo(10);
+            });
+        assertThat(sut.top("아이패", 1).get(0).searchCount()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("초성 키 인덱스는 초성 prefix로 매칭된다")
+    void givenChosungKey_whenTop_thenMatchedByChosung() {
+        // given
+        KeywordPrefixIndex chosung = new KeywordPrefixIndex(ChosungUtils::extractChosung);
+        chosung.put("아이폰 15", 30, 130);
+        chosung.put("아이패드", 20, 20);
+        chosung.put("갤럭시", 50, 150);
+
+        // when & then
+        assertThat(chosung.top("ㅇㅇㅍ", 10)).extracting(KeywordPrefixIndex.Entry::keyword)
+            .containsExactly("아이폰 15", "아이패드");
+        assertThat(chosung.top("ㄱㄹ", 10)).extracting(KeywordPrefixIndex.Entry::keyword)
+            .containsExactly("갤럭시");
+    }
+}